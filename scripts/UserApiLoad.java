@@ -0,0 +1,116 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 닫힌 루프(closed loop) 부하 - 동시 사용자 수만큼 가상 스레드가 응답을 받자마자 다음 요청을 보냄
+ * (결과 정리: docs/load-report.md, 실행: scripts/load-report.sh)
+ *
+ *   java scripts/UserApiLoad.java <base url> <path> <동시 사용자 수> <측정 초> [예열 초]
+ *
+ * path 의 {id} 는 요청마다 시드 사용자(azeromo, bzeromo, czeromo) 중 하나로 바뀜
+ * 출력: 초당 처리 수, p50/p99/p999/최대 지연(ms), 2xx 가 아닌 응답 수, 연결 오류 수
+ */
+public class UserApiLoad {
+
+    private static final String[] IDS = {"azeromo", "bzeromo", "czeromo"};
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args[0];
+        String path = args[1];
+        int users = Integer.parseInt(args[2]);
+        Duration measure = Duration.ofSeconds(Long.parseLong(args[3]));
+        Duration warmup = Duration.ofSeconds(args.length > 4 ? Long.parseLong(args[4]) : 5);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        run(client, baseUrl, path, users, warmup);
+        Result result = run(client, baseUrl, path, users, measure);
+
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+        System.out.printf("%-20s %5d %9.1f %8.2f %8.2f %8.2f %8.2f %7d %6d%n",
+                path, users, latencies.length / (double) measure.toMillis() * 1000,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1000.0,
+                result.failed(), result.errors());
+    }
+
+    private record Result(long[] latencies, long failed, long errors) {
+    }
+
+    private record Worker(long[] latencies, int count, long failed, long errors) {
+    }
+
+    // 끝난 요청만 지연(µs)을 모음 - 측정 시간이 끝날 때 진행 중이던 요청은 버림
+    private static Result run(HttpClient client, String baseUrl, String path, int users, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Worker>> workers = new ArrayList<>(users);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    long failed = 0;
+                    long errors = 0;
+                    while (true) {
+                        String id = IDS[ThreadLocalRandom.current().nextInt(IDS.length)];
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path.replace("{id}", id)))
+                                .timeout(Duration.ofSeconds(30))
+                                .header("Accept", "application/json")
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() / 100 != 2) {
+                                failed++;
+                            }
+                        } catch (Exception e) {
+                            errors++;
+                        }
+                        long end = System.nanoTime();
+                        if (end > deadline) {
+                            return new Worker(latencies, count, failed, errors);
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = (end - start) / 1000;
+                    }
+                }));
+            }
+        }
+
+        long[] merged = new long[workers.stream().mapToInt(w -> w.resultNow().count()).sum()];
+        int offset = 0;
+        long failed = 0;
+        long errors = 0;
+        for (Future<Worker> future : workers) {
+            Worker worker = future.resultNow();
+            System.arraycopy(worker.latencies(), 0, merged, offset, worker.count());
+            offset += worker.count();
+            failed += worker.failed();
+            errors += worker.errors();
+        }
+        return new Result(merged, failed, errors);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1000.0;
+    }
+}
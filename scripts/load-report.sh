@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# blocking(v5, jpa) / reactive(v6, r2dbc) 사용자 API 동시 요청 지연 비교 (결과 정리: docs/load-report.md)
+#
+#   mvn -DskipTests package
+#   scripts/load-report.sh [측정 초] [동시 사용자 수 ...]
+#
+# 모드
+#   platform : tomcat 요청 스레드(기본 200개)
+#   virtual  : + spring.threads.virtual.enabled=true
+# 모드마다 앱을 새로 띄우고, 동시 사용자 수마다 목록(/users)과 단건(/users/{id}) 을 v5, v6 순서로 측정
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+SECONDS_PER_RUN=${1:-10}
+LEVELS=("${@:2}")
+[ ${#LEVELS[@]} -gt 0 ] || LEVELS=(16 64 256)
+PORT=${PORT:-18080}
+JAVA=${JAVA:-java}
+JAR=target/helloworld-0.0.1-SNAPSHOT.jar
+PATHS=("/api/v5/users" "/api/v6/users" "/api/v5/users/{id}" "/api/v6/users/{id}")
+
+[ -e "$JAR" ] || { echo "$JAR 없음 - mvn -DskipTests package 먼저 실행" >&2; exit 1; }
+
+start_app() {
+    local log=$1
+    shift
+    # 요청마다 남는 INFO/SQL 로그가 측정을 흐리지 않도록 끔
+    $JAVA -jar "$JAR" --server.port="$PORT" --logging.level.root=WARN --logging.level.java.sql=WARN \
+        --logging.level.com.example.helloworld=WARN "$@" >"$log" 2>&1 &
+    APP_PID=$!
+    local i
+    for i in $(seq 1 600); do
+        curl -s -o /dev/null "http://localhost:$PORT/api/v5/users" && return 0
+        kill -0 "$APP_PID" 2>/dev/null || { cat "$log" >&2; exit 1; }
+        sleep 0.1
+    done
+    echo "앱이 시작되지 않음" >&2
+    exit 1
+}
+
+printf '%-8s %-20s %5s %9s %8s %8s %8s %8s %7s %6s\n' mode path users "req/s" p50 p99 p999 max non2xx error
+for mode in platform virtual; do
+    log=$(mktemp)
+    if [ "$mode" = virtual ]; then
+        start_app "$log" --spring.threads.virtual.enabled=true
+    else
+        start_app "$log"
+    fi
+
+    for users in "${LEVELS[@]}"; do
+        for path in "${PATHS[@]}"; do
+            printf '%-8s ' "$mode"
+            $JAVA scripts/UserApiLoad.java "http://localhost:$PORT" "$path" "$users" "$SECONDS_PER_RUN" 3
+        done
+    done
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    rm -f "$log"
+done
+echo "(지연: ms, non2xx: 503 등 2xx 가 아닌 응답 수, error: 연결/시간 초과)"
@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# 시작 시간 / 첫 요청 지연 측정 (결과 정리: docs/startup-report.md)
+#
+#   mvn -P prod -DskipTests package     # target/*.jar, target/app (풀린 jar + application.jsa)
+#   scripts/startup-report.sh [반복 횟수]
+#
+# 모드
+#   default       : 실행 jar + 기본 프로필 (지금까지의 실행 방식)
+#   prod          : 풀린 jar + prod 프로필
+#   prod-aot      : + -Dspring.aot.enabled=true
+#   prod-aot-cds  : + -XX:SharedArchiveFile=target/app/application.jsa
+#
+# 메모리 H2 는 prod 에서 스키마/데이터를 만들지 않으므로, 운영 DB 대신 연결 시 스크립트를 실행하는 url 을 모든 모드에 똑같이 넘김
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+JAVA=${JAVA:-java}
+JAR=target/helloworld-0.0.1-SNAPSHOT.jar
+APP=target/app/helloworld-0.0.1-SNAPSHOT.jar
+CDS=target/app/application.jsa
+DB_URL="jdbc:h2:mem:project2025;INIT=RUNSCRIPT FROM 'classpath:schema.sql'\;RUNSCRIPT FROM 'classpath:data.sql'"
+# 첫 요청: thymeleaf 뷰 + mybatis, jpa(dto projection)
+FIRST_URLS=("/api/v3/getUsers" "/api/v5/users")
+
+for f in "$JAR" "$APP" "$CDS"; do
+    [ -e "$f" ] || { echo "$f 없음 - mvn -P prod -DskipTests package 먼저 실행" >&2; exit 1; }
+done
+
+command_of() {
+    case "$1" in
+        default)      echo "$JAVA -jar $JAR" ;;
+        prod)         echo "$JAVA -jar $APP --spring.profiles.active=prod" ;;
+        prod-aot)     echo "$JAVA -Dspring.aot.enabled=true -jar $APP --spring.profiles.active=prod" ;;
+        prod-aot-cds) echo "$JAVA -XX:SharedArchiveFile=$CDS -Xlog:cds=off -Dspring.aot.enabled=true -jar $APP --spring.profiles.active=prod" ;;
+    esac
+}
+
+# 한 번 띄워서 "started(초) process(초) 첫요청들(ms) 두번째요청들(ms) rss(MB)" 출력
+measure() {
+    local log
+    log=$(mktemp)
+    # shellcheck disable=SC2046
+    $(command_of "$1") --server.port="$PORT" "--spring.datasource.url=$DB_URL" >"$log" 2>&1 &
+    local pid=$!
+
+    local i
+    for i in $(seq 1 600); do
+        grep -q "Started HelloworldApplication" "$log" && break
+        kill -0 "$pid" 2>/dev/null || { cat "$log" >&2; exit 1; }
+        sleep 0.05
+    done
+
+    local started process
+    started=$(sed -n 's/.*Started HelloworldApplication in \([0-9.]*\) seconds.*/\1/p' "$log")
+    process=$(sed -n 's/.*process running for \([0-9.]*\)).*/\1/p' "$log")
+
+    local first=() second=() url
+    for url in "${FIRST_URLS[@]}"; do
+        first+=("$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT$url")")
+    done
+    for url in "${FIRST_URLS[@]}"; do
+        second+=("$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT$url")")
+    done
+    local rss
+    rss=$(awk '/VmRSS/ {print int($2 / 1024)}' "/proc/$pid/status" 2>/dev/null || echo "-")
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+
+    echo "$started $process ${first[*]} ${second[*]} $rss"
+}
+
+# 열(column) 별 중앙값
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+printf '%-13s %8s %8s %10s %10s %10s %10s %7s\n' mode started process "1st v3" "1st v5" "2nd v3" "2nd v5" "rss MB"
+for mode in default prod prod-aot prod-aot-cds; do
+    measure "$mode" >/dev/null   # 디스크 캐시 예열
+    results=$(for run in $(seq 1 "$RUNS"); do measure "$mode"; done)
+
+    printf '%-13s' "$mode"
+    for col in 1 2; do
+        printf ' %8.3f' "$(cut -d' ' -f"$col" <<<"$results" | median)"
+    done
+    for col in 3 4 5 6; do
+        printf ' %10.1f' "$(cut -d' ' -f"$col" <<<"$results" | median | awk '{ print $1 * 1000 }')"
+    done
+    printf ' %7s\n' "$(cut -d' ' -f7 <<<"$results" | median)"
+done
+echo "(각 $RUNS 회 중앙값, started/process: 초, 요청: ms)"
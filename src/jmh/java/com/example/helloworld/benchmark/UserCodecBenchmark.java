@@ -0,0 +1,104 @@
+package com.example.helloworld.benchmark;
+
+import com.example.helloworld.common.MessageConverterConfig;
+import com.example.helloworld.common.ProtobufJacksonHttpMessageConverter;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 유저 목록(FindAllUserDto) 응답 형식별 직렬화/역직렬화 비용 (앱과 같은 HttpMessageConverter 사용)
+ * 형식별 크기(원본/gzip)는 setup 에서 한 번 출력 - "[size] ..." 줄
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserCodecBenchmark {
+
+    private static final Type LIST_TYPE = new ParameterizedTypeReference<List<FindAllUserDto>>() {}.getType();
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int listSize;
+
+    private GenericHttpMessageConverter<Object> converter;
+    private MediaType mediaType;
+    private List<FindAllUserDto> users;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        converter = converterOf(format);
+        mediaType = converter.getSupportedMediaTypes().get(0);
+        users = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            users.add(new FindAllUserDto("user" + i, "user" + i + "@bzero.com", "2025-05-27 00:00:" + String.format("%02d", i % 60) + ".0"));
+        }
+        encoded = write();
+        System.out.printf("[size] format=%s listSize=%d bytes=%d gzip=%d%n", format, listSize, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(users, LIST_TYPE, mediaType, output);
+        return output.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public Object read() throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(encoded);
+        input.getHeaders().setContentType(mediaType);
+        return converter.read(LIST_TYPE, null, input);
+    }
+
+    // Helper Method
+    @SuppressWarnings("unchecked")
+    private static GenericHttpMessageConverter<Object> converterOf(String format) {
+        // MessageConverterConfig 와 같은 설정
+        return (GenericHttpMessageConverter<Object>) switch (format) {
+            case "json" -> new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+            case "cbor" -> new MappingJackson2CborHttpMessageConverter(
+                    Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build());
+            case "smile" -> new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                    .factory(SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build())
+                    .build());
+            case "protobuf" -> new ProtobufJacksonHttpMessageConverter(
+                    Jackson2ObjectMapperBuilder.json().factory(new ProtobufFactory()).build(),
+                    new ClassPathResource(MessageConverterConfig.USER_PROTO),
+                    MessageConverterConfig.USER_MESSAGES);
+            default -> throw new IllegalArgumentException(format);
+        };
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.helloworld.benchmark;
+
+import com.example.helloworld.user.controller.UserController;
+import com.example.helloworld.user.domain.User;
+import com.example.helloworld.user.repository.UserStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * v1 메모리 저장소 경로 (DB 없는 기준선)
+ * 읽기/쓰기를 여러 스레드에서 섞어 동시성 비용까지 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class UserControllerBenchmark {
+
+    @Param({"1000", "100000"})
+    private int userCount;
+
+    private UserController userController;
+    private User patch;
+
+    @Setup
+    public void setUp() {
+        UserStore store = new UserStore();
+        for (int i = 0; i < userCount; i++) {
+            store.save(new User("user" + i, "pw", "name" + i, "user" + i + "@bzero.com", "2025-05-27"));
+        }
+        userController = new UserController(store);
+        patch = new User(null, null, "patched", "patched@bzero.com", null);
+    }
+
+    @Benchmark
+    public ResponseEntity<User> getUserById() {
+        return userController.getUserById(randomUserId());
+    }
+
+    @Benchmark
+    public ResponseEntity<List<User>> getAllUsers() {
+        return userController.getAllUsers();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public ResponseEntity<User> mixedRead() {
+        return userController.getUserById(randomUserId());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public ResponseEntity<User> mixedPatch() {
+        return userController.patchUser(randomUserId(), patch);
+    }
+
+    // Helper Method
+    private String randomUserId() {
+        return "user" + ThreadLocalRandom.current().nextInt(userCount);
+    }
+}
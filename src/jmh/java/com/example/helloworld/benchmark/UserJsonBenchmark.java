@@ -0,0 +1,64 @@
+package com.example.helloworld.benchmark;
+
+import com.example.helloworld.user.domain.User;
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 객체 JSON 직렬화 비용 (spring mvc 와 같은 설정의 ObjectMapper)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserJsonBenchmark {
+
+    @Param({"100"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private User user;
+    private User3 user3;
+    private FindAllUserDto findAllUserDto;
+    private List<FindAllUserDto> findAllUserDtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        user = new User("bzeromo", "bzero", "박영규", "bzero@bzero.com", "2025-05-27");
+        user3 = new User3("bzeromo", "bzero", "박영규", "bzero@bzero.com", LocalDateTime.of(2025, 5, 27, 0, 0));
+        findAllUserDto = new FindAllUserDto("bzeromo", "bzero@bzero.com", "2025-05-27 00:00:00.0");
+        findAllUserDtos = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            findAllUserDtos.add(new FindAllUserDto("user" + i, "user" + i + "@bzero.com", "2025-05-27 00:00:00.0"));
+        }
+    }
+
+    @Benchmark
+    public byte[] user() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] user3() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user3);
+    }
+
+    @Benchmark
+    public byte[] findAllUserDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(findAllUserDto);
+    }
+
+    @Benchmark
+    public byte[] findAllUserDtoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(findAllUserDtos);
+    }
+}
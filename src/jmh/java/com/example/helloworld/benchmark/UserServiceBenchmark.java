@@ -0,0 +1,90 @@
+package com.example.helloworld.benchmark;
+
+import com.example.helloworld.HelloworldApplication;
+import com.example.helloworld.user.domain.User;
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.service.UserService5;
+import com.example.helloworld.user.service.UserServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * mybatis(UserServiceImpl) vs jpa(UserServiceImpl5) 조회/등록 비교 (embedded H2)
+ * 캐시를 끄고 DB 경로 자체를 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserServiceImpl userService;
+    private UserService5 userService5;
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HelloworldApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.cache.type=none",
+                        "spring.devtools.restart.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl")
+                .run();
+        userService = context.getBean(UserServiceImpl.class);
+        userService5 = context.getBean(UserService5.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("delete from users where userId like 'jmh%'");
+        context.close();
+    }
+
+    @Benchmark
+    public User mybatisReadByUserId() {
+        return userService.readByUserId("bzeromo");
+    }
+
+    @Benchmark
+    public Optional<User3> jpaReadByUserId() {
+        return userService5.readByUserId("bzeromo");
+    }
+
+    @Benchmark
+    public List<FindAllUserDto> mybatisReadAll() {
+        return userService.readAllUser();
+    }
+
+    @Benchmark
+    public List<FindAllUserDto> jpaReadAll() {
+        return userService5.readAllUser();
+    }
+
+    @Benchmark
+    public boolean mybatisInsert() {
+        String userId = "jmh" + sequence.incrementAndGet();
+        return userService.newUser(new UserCreateDto(userId, "pw", "jmh", userId + "@bzero.com"));
+    }
+
+    @Benchmark
+    public User3 jpaInsert() {
+        String userId = "jmh" + sequence.incrementAndGet();
+        return userService5.newUser(new User3(userId, "pw", "jmh", userId + "@bzero.com", null));
+    }
+}
@@ -2,7 +2,10 @@ package com.example.helloworld;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
 
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE) // 캐시 hit 는 DB bulkhead 를 거치지 않도록 가장 바깥
 @SpringBootApplication
 public class HelloworldApplication {
 
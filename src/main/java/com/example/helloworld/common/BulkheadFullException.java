@@ -0,0 +1,17 @@
+package com.example.helloworld.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * DB 동시 접근 한도를 넘어 대기 시간 안에 permit 을 얻지 못함
+ * (write-behind 등록 대기가 한도를 넘은 경우도 포함)
+ * 응답은 503 (잠시 후 재시도)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
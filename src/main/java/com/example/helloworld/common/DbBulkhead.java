@@ -0,0 +1,139 @@
+package com.example.helloworld.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * DB 동시 접근 수를 커넥션 풀 크기로 제한하는 bulkhead
+ * - repository 빈 호출과 @Transactional 메서드를 감싸며, 트랜잭션보다 바깥에서 permit 을 잡음
+ * - 같은 스레드 안의 중첩 호출은 이미 잡은 permit 을 그대로 사용
+ * - max-wait 동안 permit 을 못 얻으면 BulkheadFullException (0 이면 즉시 실패)
+ * - Mono/Flux 를 반환하는 호출(v6 R2DBC)은 제외 - 구독 전에 permit 을 놓고, 대기는 R2DBC 풀이 스레드를 막지 않고 함
+ * 가상 스레드 모드에서 요청 수가 풀 크기를 크게 넘어도 커넥션 대기로 쌓이지 않도록 하기 위함
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class DbBulkhead implements MeterBinder {
+
+    private final Semaphore permits;
+    private final Duration maxWait;
+    private final ThreadLocal<Boolean> holding = ThreadLocal.withInitial(() -> false);
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public DbBulkhead(
+            @Value("${db.bulkhead.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${db.bulkhead.max-wait:200ms}") Duration maxWait) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("db.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("남은 DB 접근 permit 수")
+                .register(registry);
+        Gauge.builder("db.bulkhead.queued", permits, Semaphore::getQueueLength)
+                .description("permit 대기 중인 스레드 수")
+                .register(registry);
+        FunctionTimer.builder("db.bulkhead.wait", this,
+                        b -> b.waitCount.sum(), b -> b.waitNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("permit 을 얻기까지 기다린 시간")
+                .register(registry);
+        FunctionCounter.builder("db.bulkhead.rejected", rejected, LongAdder::sum)
+                .description("대기 시간 초과로 거절된 호출 수")
+                .register(registry);
+    }
+
+    @Around("(execution(* com.example.helloworld..repository.*Repository*.*(..))"
+            + " || target(org.springframework.data.repository.Repository)"
+            + " || @annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || @within(org.springframework.transaction.annotation.Transactional))"
+            + " && !execution(org.reactivestreams.Publisher+ *(..))")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        return execute(joinPoint::proceed);
+    }
+
+    /**
+     * permit 을 잡고 call 실행
+     * @throws BulkheadFullException 대기 시간 안에 permit 을 얻지 못함
+     */
+    public <T> T execute(BulkheadCall<T> call) throws Throwable {
+        if (holding.get()) {
+            return call.call();
+        }
+
+        acquire();
+        holding.set(true);
+        try {
+            return call.call();
+        } finally {
+            holding.remove();
+            permits.release();
+        }
+    }
+
+    /**
+     * aspect 를 거치지 않는 DB 접근(직접 만든 TransactionTemplate, 백그라운드 스레드)용
+     * 트랜잭션보다 먼저 permit 을 잡아야 커넥션을 쥔 채 permit 을 기다리지 않음
+     * @throws BulkheadFullException 대기 시간 안에 permit 을 얻지 못함
+     */
+    public <T> T supply(Supplier<T> call) {
+        try {
+            return execute(call::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    // Helper Method
+    private void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = maxWait.isZero()
+                    ? permits.tryAcquire()
+                    : permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitCount.increment();
+        waitNanos.add(System.nanoTime() - start);
+
+        if (!acquired) {
+            rejected.increment();
+            log.warn("DB bulkhead 포화 : queued={}", permits.getQueueLength());
+            throw new BulkheadFullException("DB 동시 접근 한도 초과");
+        }
+    }
+
+    @FunctionalInterface
+    public interface BulkheadCall<T> {
+        T call() throws Throwable;
+    }
+}
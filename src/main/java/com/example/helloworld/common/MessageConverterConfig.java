@@ -0,0 +1,77 @@
+package com.example.helloworld.common;
+
+import com.example.helloworld.user.domain.User;
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserAvailabilityDto;
+import com.example.helloworld.user.dto.UserBulkResultDto;
+import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.dto.UserCreateDto2;
+import com.example.helloworld.user.dto.UserLookupDto;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON 외 바이너리 응답/요청 (Accept, Content-Type 으로 선택)
+ * - application/cbor, application/x-jackson-smile : JSON 과 같은 구조, 키 이름 그대로
+ *   smile 은 한 응답 안에서 반복되는 키/문자열 값을 앞에 나온 것의 참조로 보냄 (목록 응답이 작아짐)
+ * - application/x-protobuf : classpath:proto/user.proto 의 필드 번호로 보냄 (키 이름 없음, 스키마에 정한 타입만)
+ * 날짜 형식 등은 JSON 과 같은 ObjectMapper 설정(spring.jackson.*)을 씀
+ * 요청에 Accept 가 없거나 * / * 이면 지금처럼 JSON (바이너리 변환기는 목록 맨 뒤)
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    public static final String USER_PROTO = "proto/user.proto";
+
+    // 사용자 API 타입 -> user.proto 메시지
+    public static final Map<Class<?>, String> USER_MESSAGES = Map.of(
+            User.class, "User",
+            User3.class, "User",
+            FindAllUserDto.class, "FindAllUser",
+            UserCreateDto.class, "UserCreate",
+            UserCreateDto2.class, "UserCreate",
+            UserUpdateDto.class, "UserUpdate",
+            UserLookupDto.class, "UserLookup",
+            UserBulkResultDto.class, "UserBulkResult",
+            UserAvailabilityDto.class, "UserAvailability",
+            String.class, "String");
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public MessageConverterConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // classpath 에 있으면 기본으로 들어가는 변환기는 spring.jackson 설정이 빠져 있으므로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject()
+                        .factory(SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build())
+                        .build()));
+        converters.add(new ProtobufJacksonHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new ProtobufFactory()).build(),
+                new ClassPathResource(USER_PROTO),
+                USER_MESSAGES));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.helloworld.common;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Spring AOT 빌드(mvn -P prod package) 용 mybatis 보정
+ * - mapper 스캔 결과(MapperFactoryBean 빈 정의)는 빌드 시점에 코드로 생성되므로
+ *   실행 시 MapperScannerConfigurer 가 다시 스캔하지 않도록 생성 코드에서 제외 (META-INF/spring/aot.factories)
+ * - 스캐너는 mapper 인터페이스를 클래스 이름(String) 생성자 인자로 넘기는데 생성 코드로는 옮길 수 없으므로
+ *   빈 정의를 만들 때 Class 인자와 MapperFactoryBean<Mapper> 타입으로 풀어둠
+ */
+public class MybatisAotSupport implements BeanRegistrationExcludeFilter {
+
+    @Override
+    public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+        return MapperScannerConfigurer.class.isAssignableFrom(registeredBean.getBeanClass());
+    }
+
+    @Component
+    public static class MapperTypeResolver implements MergedBeanDefinitionPostProcessor {
+
+        @Override
+        public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+            if (!MapperFactoryBean.class.isAssignableFrom(beanType) || !beanDefinition.hasBeanClass()
+                    || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                return;
+            }
+            Class<?> mapperInterface = mapperInterfaceOf(beanDefinition);
+            if (mapperInterface == null) {
+                return;
+            }
+
+            ConstructorArgumentValues args = new ConstructorArgumentValues();
+            args.addGenericArgumentValue(mapperInterface);
+            beanDefinition.setConstructorArgumentValues(args);
+            beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanDefinition.getBeanClass(), mapperInterface));
+        }
+
+        // Helper Method
+        private Class<?> mapperInterfaceOf(RootBeanDefinition beanDefinition) {
+            ConstructorArgumentValues.ValueHolder holder = beanDefinition.getConstructorArgumentValues()
+                    .getGenericArgumentValue(null);
+            Object value = holder == null ? null : holder.getValue();
+            if (value instanceof Class<?> type) {
+                return type;
+            }
+            if (value instanceof String className) {
+                return ClassUtils.resolveClassName(className, beanDefinition.getBeanClass().getClassLoader());
+            }
+            return null;
+        }
+    }
+}
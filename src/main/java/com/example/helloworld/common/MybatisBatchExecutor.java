@@ -0,0 +1,60 @@
+package com.example.helloworld.common;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.MyBatisExceptionTranslator;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * ExecutorType.BATCH 로 mapper 문장을 묶어서 실행 (UserBatchRepository, EmployeeBatchRepository 가 같이 씀)
+ * BATCH SqlSessionTemplate 은 이미 SIMPLE 세션이 묶인 트랜잭션 안에서 부르면 실패하므로
+ * 호출마다 BATCH 세션을 직접 열어 씀 (커넥션은 spring 트랜잭션의 것을 같이 씀)
+ * MariaDB 는 드라이버가 기본으로 bulk 전송, PostgreSQL 은 url 에 reWriteBatchedInserts=true 를 주면
+ * multi-values insert 로 바꿔 보냄
+ */
+@Component
+public class MybatisBatchExecutor {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final PersistenceExceptionTranslator exceptionTranslator;
+
+    public MybatisBatchExecutor(SqlSessionFactory sqlSessionFactory) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.exceptionTranslator = new MyBatisExceptionTranslator(
+                sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(), true);
+    }
+
+    /**
+     * rows 마다 statement 를 BATCH mapper 로 불러 한 번의 JDBC batch 로 실행
+     * 호출한 쪽 트랜잭션이 있으면 그 안에서, 없으면 새 트랜잭션으로 실행
+     * 한 건이라도 실패하면 전체 롤백 후 예외 (DataAccessException)
+     * @param mapperType mapper 인터페이스
+     * @param statement  행 하나를 넘기는 mapper 메서드 (예: UserRepository::insertUser)
+     * @return 행별 update count (드라이버에 따라 Statement.SUCCESS_NO_INFO)
+     */
+    @Transactional
+    public <M, T> int[] execute(Class<M> mapperType, List<T> rows, BiConsumer<M, T> statement) {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            M batchMapper = session.getMapper(mapperType);
+            for (T row : rows) {
+                statement.accept(batchMapper, row);
+            }
+
+            List<BatchResult> results = session.flushStatements();
+            return results.stream()
+                    .flatMapToInt(result -> Arrays.stream(result.getUpdateCounts()))
+                    .toArray();
+        } catch (PersistenceException e) {
+            throw exceptionTranslator.translateExceptionIfPossible(e);
+        }
+    }
+}
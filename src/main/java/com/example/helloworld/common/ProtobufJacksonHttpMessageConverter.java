@@ -0,0 +1,168 @@
+package com.example.helloworld.common;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * application/x-protobuf 변환기 (.proto 스키마 + jackson protobuf, protoc 로 만든 클래스 없이 기존 DTO 그대로 사용)
+ * - 클래스마다 .proto 의 메시지 이름을 지정, 목록은 "<메시지>List" 메시지의 items 로 감싸서 보냄
+ * - 지정하지 않은 타입은 처리하지 않음 (다른 변환기로 넘어가거나 406, 요소 타입을 알 수 없는 목록 포함)
+ * - 쓸 때 스키마에 없는 속성이 있으면 실패 (필드 번호를 정하지 않은 값은 내보내지 않음)
+ * - 읽을 때 모르는 필드 번호는 건너뜀 (필드를 더 추가한 클라이언트와 호환)
+ */
+public class ProtobufJacksonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+
+    private static final String LIST_SUFFIX = "List";
+
+    private final ObjectMapper objectMapper;
+    private final NativeProtobufSchema schemas;
+    // 클래스 -> 메시지 이름
+    private final Map<Class<?>, String> messages;
+    private final Map<String, ProtobufSchema> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * @param objectMapper ProtobufFactory 로 만든 ObjectMapper
+     * @param proto        .proto 파일
+     * @param messages     클래스 -> 메시지 이름 (목록은 이름 + "List" 메시지가 있어야 함)
+     */
+    public ProtobufJacksonHttpMessageConverter(ObjectMapper objectMapper, Resource proto, Map<Class<?>, String> messages) {
+        super(APPLICATION_PROTOBUF);
+        this.objectMapper = objectMapper;
+        this.messages = Map.copyOf(messages);
+        try (InputStream in = proto.getInputStream()) {
+            this.schemas = ProtobufSchemaLoader.std.loadNative(in, true);
+        } catch (IOException e) {
+            throw new IllegalStateException("protobuf 스키마를 읽을 수 없습니다 : " + proto, e);
+        }
+        this.messages.values().forEach(message -> {
+            if (!schemas.hasMessageType(message) && !schemas.hasMessageType(message + LIST_SUFFIX)) {
+                throw new IllegalStateException(proto + " 에 " + message + " 메시지가 없습니다");
+            }
+        });
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return canRead(mediaType) && messageOf(javaTypeOf(type, contextClass)) != null;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        JavaType javaType = type != null ? javaTypeOf(type, null) : objectMapper.constructType(clazz);
+        return messageOf(javaType) != null || messageOf(objectMapper.constructType(clazz)) != null;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        JavaType javaType = javaTypeOf(type, contextClass);
+        String message = messageOf(javaType);
+        if (message == null) {
+            throw new HttpMessageNotReadableException("protobuf 메시지가 지정되지 않은 타입 : " + javaType, inputMessage);
+        }
+
+        JavaType target = isList(javaType)
+                ? objectMapper.getTypeFactory().constructParametricType(Items.class, javaType.getContentType())
+                : javaType;
+        try {
+            Object value = objectMapper.readerFor(target)
+                    .with(schemaOf(message))
+                    .with(JsonParser.Feature.IGNORE_UNDEFINED)
+                    .readValue(inputMessage.getBody());
+            return value instanceof Items<?> items ? new ArrayList<>(items.items()) : value;
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("protobuf 본문을 읽을 수 없습니다 : " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Object value = object;
+        String message;
+        if (object instanceof Collection<?> items) {
+            if (items.isEmpty()) {
+                // 빈 목록은 빈 메시지 (0 bytes)
+                return;
+            }
+            // 목록 메시지는 선언된 요소 타입으로만 정함 (canWrite 와 같은 기준)
+            message = type == null ? null : messageOf(javaTypeOf(type, null));
+            value = new Items<>(List.copyOf(items));
+        } else {
+            message = messages.get(object.getClass());
+        }
+        if (message == null) {
+            throw new HttpMessageNotWritableException("protobuf 메시지가 지정되지 않은 타입 : " + object.getClass().getName());
+        }
+
+        try {
+            objectMapper.writer(schemaOf(message)).writeValue(outputMessage.getBody(), value);
+        } catch (IOException e) {
+            throw new HttpMessageNotWritableException("protobuf 로 쓸 수 없습니다 : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 메시지 이름으로 스키마 (벤치마크/테스트에서 직접 직렬화할 때도 사용)
+     */
+    public ProtobufSchema schemaOf(String message) {
+        return resolved.computeIfAbsent(message, schemas::forType);
+    }
+
+    // Helper Method
+    private JavaType javaTypeOf(Type type, Class<?> contextClass) {
+        return objectMapper.constructType(GenericTypeResolver.resolveType(type, contextClass));
+    }
+
+    // 지정하지 않은 타입이면 null
+    private String messageOf(JavaType javaType) {
+        if (isList(javaType)) {
+            return listMessageOf(javaType.getContentType().getRawClass());
+        }
+        String message = messages.get(javaType.getRawClass());
+        return message != null && schemas.hasMessageType(message) ? message : null;
+    }
+
+    private String listMessageOf(Class<?> elementClass) {
+        String message = messages.get(elementClass);
+        return message != null && schemas.hasMessageType(message + LIST_SUFFIX) ? message + LIST_SUFFIX : null;
+    }
+
+    private static boolean isList(JavaType javaType) {
+        return javaType.isCollectionLikeType() && javaType.getRawClass().isAssignableFrom(ArrayList.class);
+    }
+
+    // 목록 메시지 (repeated items = 1)
+    record Items<T>(List<T> items) {
+    }
+}
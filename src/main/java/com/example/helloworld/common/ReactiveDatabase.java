@@ -0,0 +1,140 @@
+package com.example.helloworld.common;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.R2dbcException;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * R2DBC 커넥션 풀 (v6 reactive 사용자 API 에서 사용)
+ * - spring.datasource 와 같은 DB 를 R2DBC 드라이버(h2/postgresql/mariadb)로 연결
+ * - ConnectionFactory 를 빈으로 등록하면 JDBC DataSource 자동 설정이 빠지므로 풀은 이 안에만 둠
+ * - 풀이 비면 스레드를 막지 않고 acquire-timeout 까지 구독 단위로 대기 (DbBulkhead 대상 아님)
+ *   DbBulkhead 를 거치지 않으므로 pool-size 는 JDBC 풀과 나눈 몫으로 잡음 (두 풀 합 = DB 커넥션 예산)
+ * - R2DBC 예외는 JDBC 경로와 같은 Spring DataAccessException 으로 바꿔서 전달
+ */
+@Slf4j
+@Component
+public class ReactiveDatabase implements MeterBinder, DisposableBean {
+
+    private final ConnectionPool pool;
+    // mariadb 드라이버는 ? 만, h2/postgresql 은 $1, $2 ...
+    private final boolean numberedMarkers;
+
+    public ReactiveDatabase(
+            @Value("${db.r2dbc.url}") String url,
+            @Value("${db.r2dbc.username:}") String username,
+            @Value("${db.r2dbc.password:}") String password,
+            @Value("${db.r2dbc.pool-size:3}") int poolSize,
+            @Value("${db.r2dbc.acquire-timeout:1s}") Duration acquireTimeout) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("r2dbc")
+                .initialSize(0)
+                .maxSize(poolSize)
+                .maxAcquireTime(acquireTimeout)
+                .build());
+        this.numberedMarkers = !pool.getMetadata().getName().toLowerCase().contains("mariadb");
+    }
+
+    /**
+     * ? 로 쓴 SQL 을 드라이버의 bind marker 형식으로 (bind 는 0 부터 순서대로)
+     */
+    public String sql(String sql) {
+        if (!numberedMarkers) {
+            return sql;
+        }
+        StringBuilder converted = new StringBuilder(sql.length() + 16);
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                converted.append('$').append(++index);
+            } else {
+                converted.append(c);
+            }
+        }
+        return converted.toString();
+    }
+
+    /**
+     * 커넥션 하나로 여러 행 (구독이 끝나거나 취소되면 커넥션 반납)
+     * 요청(request(n))한 만큼만 드라이버에서 행을 가져옴
+     */
+    public <T> Flux<T> many(Function<Connection, Publisher<T>> work) {
+        return Flux.usingWhen(pool.create(), work, Connection::close)
+                .onErrorMap(R2dbcException.class, ReactiveDatabase::translate);
+    }
+
+    /**
+     * 커넥션 하나로 한 건
+     */
+    public <T> Mono<T> one(Function<Connection, Publisher<T>> work) {
+        return many(work).next();
+    }
+
+    /**
+     * 한 트랜잭션으로 실행 (오류나 취소면 rollback)
+     */
+    public <T> Mono<T> inTransaction(Function<Connection, Publisher<T>> work) {
+        return Mono.usingWhen(pool.create(),
+                        connection -> Mono.usingWhen(Mono.from(connection.beginTransaction()).thenReturn(connection),
+                                transaction -> Mono.from(work.apply(transaction)),
+                                Connection::commitTransaction,
+                                (transaction, e) -> transaction.rollbackTransaction(),
+                                Connection::rollbackTransaction),
+                        Connection::close)
+                .onErrorMap(R2dbcException.class, ReactiveDatabase::translate);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gauge(registry, "db.r2dbc.pool.acquired", "사용 중인 커넥션 수", PoolMetrics::acquiredSize);
+        gauge(registry, "db.r2dbc.pool.idle", "대기 중인 커넥션 수", PoolMetrics::idleSize);
+        gauge(registry, "db.r2dbc.pool.pending", "커넥션을 기다리는 구독 수", PoolMetrics::pendingAcquireSize);
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+
+    // Helper Method
+    private void gauge(MeterRegistry registry, String name, String description, ToDoubleFunction<PoolMetrics> value) {
+        pool.getMetrics().ifPresent(metrics -> Gauge.builder(name, metrics, value)
+                .description(description)
+                .register(registry));
+    }
+
+    private static RuntimeException translate(R2dbcException e) {
+        if (e instanceof R2dbcDataIntegrityViolationException) {
+            return new DataIntegrityViolationException(e.getMessage(), e);
+        }
+        return new DataAccessResourceFailureException(e.getMessage(), e);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.helloworld.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * replica 복제 지연 동안 방금 쓴 데이터를 primary 에서 읽게 함 (read-your-writes)
+ * - 쓰기가 커밋된 뒤 window 동안, 그 key 의 단건 조회와 목록 조회는 primary 에서 실행
+ * - 대량 쓰기(writtenAll)는 window 동안 모든 조회를 primary 로
+ * replica 라우팅이 꺼져 있거나 window 가 0 이면 아무것도 하지 않음
+ */
+@Component
+public class ReadYourWrites {
+
+    private final long windowNanos;
+    private final Cache<String, Boolean> recentKeys;
+
+    private volatile long lastWriteAt;
+    private volatile long lastBulkWriteAt;
+
+    public ReadYourWrites(
+            @Value("${db.replica.enabled:false}") boolean replicaEnabled,
+            @Value("${db.replica.read-your-writes:0s}") Duration window) {
+        this.windowNanos = replicaEnabled ? window.toNanos() : 0;
+        this.recentKeys = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofNanos(Math.max(windowNanos, 1)))
+                .maximumSize(100_000)
+                .build();
+        this.lastWriteAt = System.nanoTime() - windowNanos;
+        this.lastBulkWriteAt = lastWriteAt;
+    }
+
+    /**
+     * key 쓰기 기록 (트랜잭션 안이면 커밋된 뒤에 기록)
+     */
+    public void written(String key) {
+        if (windowNanos > 0) {
+            afterCommit(() -> {
+                recentKeys.put(key, Boolean.TRUE);
+                lastWriteAt = System.nanoTime();
+            });
+        }
+    }
+
+    /**
+     * 대량 쓰기 기록 (key 를 하나씩 남기지 않고 window 동안 전부 primary)
+     */
+    public void writtenAll() {
+        if (windowNanos > 0) {
+            afterCommit(() -> {
+                long now = System.nanoTime();
+                lastWriteAt = now;
+                lastBulkWriteAt = now;
+            });
+        }
+    }
+
+    /**
+     * 목록 조회: window 안에 쓰기가 있었으면 primary 에서 실행
+     */
+    public <T> T readAll(Supplier<T> reader) {
+        if (windowNanos > 0 && within(lastWriteAt)) {
+            return ReplicaDataSource.onPrimary(reader);
+        }
+        return reader.get();
+    }
+
+    /**
+     * key 단건 조회 전 확인: true 면 ReplicaDataSource.onPrimary 로 조회
+     */
+    public boolean isRecent(String key) {
+        return windowNanos > 0 && (within(lastBulkWriteAt) || recentKeys.getIfPresent(key) != null);
+    }
+
+    // Helper Method
+    private boolean within(long writtenAt) {
+        return System.nanoTime() - writtenAt < windowNanos;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
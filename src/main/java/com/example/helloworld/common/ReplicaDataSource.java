@@ -0,0 +1,188 @@
+package com.example.helloworld.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 커넥션을 replica 들에 나눠주는 DataSource (ReplicaDataSourceConfig 에서 readOnly 트랜잭션용으로 연결)
+ * - 정상(healthy) replica 를 돌아가며 선택, 커넥션을 못 얻으면 다음 replica 로
+ *   연결/확인에 실패했을 때만 그 replica 를 내림 (풀이 꽉 차 대기 시간이 지난 것은 장애가 아니므로 그대로 둠)
+ * - 정상 replica 가 없거나 onPrimary 범위 안이면 primary 사용
+ * - checkHealth 가 주기적으로 replica 연결을 확인해 내려간 replica 를 다시 올림
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+    private static final ThreadLocal<Boolean> forcePrimary = ThreadLocal.withInitial(() -> false);
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryRoutes = new LongAdder();
+
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaDataSource(DataSource primary, Map<String, DataSource> replicas, Duration validationTimeout) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+    }
+
+    /**
+     * reader 안의 읽기는 replica 대신 primary 에서 실행 (read-your-writes)
+     * 트랜잭션이 이미 커넥션을 얻은 뒤라면 그 커넥션을 그대로 씀
+     */
+    public static <T> T onPrimary(Supplier<T> reader) {
+        if (forcePrimary.get()) {
+            return reader.get();
+        }
+        forcePrimary.set(true);
+        try {
+            return reader.get();
+        } finally {
+            forcePrimary.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!forcePrimary.get()) {
+            int size = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replica.routes.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    if (isConnectFailure(e)) {
+                        markDown(replica, e);
+                    }
+                }
+            }
+        }
+        primaryRoutes.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("replica 커넥션은 설정된 계정으로만 얻을 수 있습니다");
+    }
+
+    /**
+     * 모든 replica 연결 확인 (내려간 replica 도 확인해서 복구되면 다시 사용)
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    throw new SQLException("connection is not valid");
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("replica 복구 : {}", replica.name);
+                }
+            } catch (SQLException e) {
+                if (isConnectFailure(e)) {
+                    markDown(replica, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * interval 마다 checkHealth 실행
+     */
+    public void startHealthCheck(Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("replica-health")
+                .daemon(true)
+                .factory());
+        healthChecker.scheduleWithFixedDelay(this::checkHealth,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isHealthy(String name) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(name) && replica.healthy);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            FunctionCounter.builder("db.read.routes", replica.routes, LongAdder::sum)
+                    .description("읽기 전용 커넥션을 넘겨준 횟수")
+                    .tag("target", replica.name)
+                    .register(registry);
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("replica 사용 가능 여부 (1: 사용, 0: 제외)")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+        FunctionCounter.builder("db.read.routes", primaryRoutes, LongAdder::sum)
+                .description("읽기 전용 커넥션을 넘겨준 횟수")
+                .tag("target", "primary")
+                .register(registry);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // Helper Method
+    // hikari 는 풀 대기 시간이 지나면 SQLTransientConnectionException, 그 사이 연결 실패가 있었으면 cause 로 붙임
+    private static boolean isConnectFailure(SQLException e) {
+        return !(e instanceof SQLTransientConnectionException) || e.getCause() instanceof SQLException;
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("replica 제외 : {} ({})", replica.name, e.getMessage());
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder routes = new LongAdder();
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.helloworld.common;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (db.replica.enabled=true 일 때만)
+ * - @Transactional(readOnly = true) 안의 쿼리는 replica, 그 외(쓰기, 트랜잭션 밖)는 primary (spring.datasource)
+ * - LazyConnectionDataSourceProxy 가 첫 쿼리 시점까지 커넥션을 미루므로 트랜잭션의 readOnly 여부를 보고 고를 수 있음
+ *   mybatis, jpa 가 같은 DataSource 를 쓰므로 둘 다 같은 규칙으로 라우팅됨
+ * - 커넥션 풀은 primary, replica-1.. 로 나뉘며 hikaricp.connections.* 지표의 pool 태그로 구분
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "db.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${db.replica.urls}") List<String> urls,
+            @Value("${db.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${db.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${db.replica.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+            @Value("${db.replica.connection-timeout:250ms}") Duration connectionTimeout,
+            @Value("${db.replica.validation-timeout:1s}") Duration validationTimeout,
+            @Value("${db.replica.health-check-interval:5s}") Duration healthCheckInterval) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i))
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setMaximumPoolSize(poolSize);
+            // 바쁘거나 내려간 replica 에서 오래 기다리지 않고 다음 replica/primary 로 넘어가도록 짧게 (hikari 최소 250ms)
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(registry ->
+                    replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        ReplicaDataSource dataSource = new ReplicaDataSource(primaryDataSource, replicas, validationTimeout);
+        dataSource.startHealthCheck(healthCheckInterval);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.helloworld.common;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SQL 로그 샘플링 (logback-spring.xml 에서 등록)
+ * - mybatis: "==>  Preparing" 줄에서 남길지 정하고, 같은 스레드의 뒤따르는 ==>/<== 줄은 같은 결정을 따름
+ * - hibernate: org.hibernate.SQL 로거의 각 문장 단위
+ * 로깅 호출 스레드에서 이벤트 생성 전에 판단하므로 버려지는 로그는 비용이 거의 없음
+ */
+public class SqlLogSamplingFilter extends TurboFilter {
+
+    private static final String HIBERNATE_SQL_LOGGER = "org.hibernate.SQL";
+    private static final String MYBATIS_PREPARING = "==>  Preparing";
+
+    private final ThreadLocal<Boolean> sampled = ThreadLocal.withInitial(() -> true);
+    private double sampleRate = 1.0;
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (sampleRate >= 1.0 || format == null) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (format.startsWith(MYBATIS_PREPARING)) {
+            boolean keep = sample();
+            sampled.set(keep);
+            return keep ? FilterReply.NEUTRAL : FilterReply.DENY;
+        }
+        if (format.startsWith("==>") || format.startsWith("<==")) {
+            return sampled.get() ? FilterReply.NEUTRAL : FilterReply.DENY;
+        }
+        if (HIBERNATE_SQL_LOGGER.equals(logger.getName())) {
+            return sample() ? FilterReply.NEUTRAL : FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    // Helper Method
+    private boolean sample() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.helloworld.employee.controller;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeReportsDto;
+import com.example.helloworld.employee.dto.EmployeeSalaryStatDto;
+import com.example.helloworld.employee.dto.EmployeeScanQuery;
+import com.example.helloworld.employee.dto.EmployeeScanResultDto;
+import com.example.helloworld.employee.dto.EmployeeSpanDto;
+import com.example.helloworld.employee.service.EmployeeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/employees")
+public class EmployeeController {
+
+    private final EmployeeService employeeService;
+
+    /**
+     * 사원 조회
+     * success: 200 code
+     * failed: 404 code
+     */
+    @GetMapping("/{employeeId}")
+    public ResponseEntity<Employee> getEmployee(@PathVariable int employeeId) {
+        log.info("getEmployee 호출 : {}", employeeId);
+
+        Employee employee = employeeService.readByEmployeeId(employeeId);
+        return employee == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(employee);
+    }
+
+    /**
+     * 사원 등록
+     * success: 201 code
+     * failed: 409 code (중복 사원번호/이메일), 400 code (필수값 누락 등)
+     */
+    @PostMapping
+    public ResponseEntity<Employee> createEmployee(@RequestBody Employee employee) {
+        log.info("createEmployee 호출 : {}", employee.getEmployeeId());
+
+        try {
+            employeeService.newEmployee(employee);
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(employee);
+    }
+
+    /**
+     * 사원 정보 수정
+     * success: 200 code
+     * failed: 404 code, 409 code (중복 이메일), 400 code (조직도 순환 등)
+     */
+    @PutMapping("/{employeeId}")
+    public ResponseEntity<Employee> updateEmployee(@PathVariable int employeeId, @RequestBody Employee employee) {
+        log.info("updateEmployee 호출 : {}", employeeId);
+
+        try {
+            return ResponseEntity.of(employeeService.updateEmployee(employeeId, employee));
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (DataIntegrityViolationException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 전체 부하 목록 (직속 + 간접, 조직도 순서)
+     * success: 200 code
+     * failed: 404 code
+     */
+    @GetMapping("/{employeeId}/reports")
+    public ResponseEntity<EmployeeReportsDto> getReports(@PathVariable int employeeId,
+                                                         @RequestParam(defaultValue = "0") int offset,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        log.info("getReports 호출 : {}", employeeId);
+        return ResponseEntity.of(employeeService.readReports(employeeId, offset, limit));
+    }
+
+    /**
+     * 지휘 계통 (직속 관리자부터 최상위까지의 사원번호)
+     * success: 200 code
+     * failed: 404 code
+     */
+    @GetMapping("/{employeeId}/chain")
+    public ResponseEntity<List<Integer>> getChainOfCommand(@PathVariable int employeeId) {
+        log.info("getChainOfCommand 호출 : {}", employeeId);
+        return ResponseEntity.of(employeeService.readChainOfCommand(employeeId));
+    }
+
+    /**
+     * 관리 범위 (직속 부하 수, 전체 부하 수, 조직 깊이)
+     * success: 200 code
+     * failed: 404 code
+     */
+    @GetMapping("/{employeeId}/span")
+    public ResponseEntity<EmployeeSpanDto> getSpanOfControl(@PathVariable int employeeId) {
+        log.info("getSpanOfControl 호출 : {}", employeeId);
+        return ResponseEntity.of(employeeService.readSpanOfControl(employeeId));
+    }
+
+    /**
+     * 부서별 인원, 급여 min/avg/max/sum
+     * success: 200 code
+     */
+    @GetMapping("/stats/departments")
+    public ResponseEntity<List<EmployeeSalaryStatDto>> getDepartmentStats() {
+        log.info("getDepartmentStats 호출");
+        return ResponseEntity.ok(employeeService.readDepartmentStats());
+    }
+
+    /**
+     * 직무별 인원, 급여 min/avg/max/sum
+     * success: 200 code
+     */
+    @GetMapping("/stats/jobs")
+    public ResponseEntity<List<EmployeeSalaryStatDto>> getJobStats() {
+        log.info("getJobStats 호출");
+        return ResponseEntity.ok(employeeService.readJobStats());
+    }
+
+    /**
+     * 컬럼 스토어 조건 스캔 (모든 조건은 선택, 범위는 양 끝 포함)
+     * 예) /api/employees/scan?minSalary=5000&hiredFrom=2005-01-01&departmentId=50&departmentId=80&jobId=SA_REP
+     * success: 200 code
+     */
+    @GetMapping("/scan")
+    public ResponseEntity<EmployeeScanResultDto> scanEmployees(
+            @RequestParam(required = false) BigDecimal minSalary,
+            @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo,
+            @RequestParam(required = false) List<Integer> departmentId,
+            @RequestParam(required = false) List<String> jobId,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("scanEmployees 호출");
+
+        EmployeeScanQuery query = EmployeeScanQuery.builder()
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .hiredFrom(hiredFrom)
+                .hiredTo(hiredTo)
+                .departmentIds(departmentId == null ? null : new HashSet<>(departmentId))
+                .jobIds(jobId == null ? null : new HashSet<>(jobId))
+                .limit(limit)
+                .build();
+        return ResponseEntity.ok(employeeService.scanEmployees(query));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.helloworld.employee.controller;
+
+import com.example.helloworld.employee.dto.EmployeeIngestStatusDto;
+import com.example.helloworld.employee.service.EmployeeIngestService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/employees/ingest")
+public class EmployeeIngestController {
+
+    private final EmployeeIngestService employeeIngestService;
+    // 적재할 수 있는 파일은 이 디렉터리 아래로 제한
+    private final Path ingestDir;
+
+    public EmployeeIngestController(EmployeeIngestService employeeIngestService,
+                                    @Value("${employee.ingest.dir:data/ingest}") String ingestDir) {
+        this.employeeIngestService = employeeIngestService;
+        this.ingestDir = Path.of(ingestDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 사원 CSV 적재 시작 (employee.ingest.dir 기준 파일명)
+     * success: 202 code (Location: 진행 상황 조회 주소)
+     * failed: 400 code (디렉터리 밖 경로), 404 code (파일 없음)
+     */
+    @PostMapping
+    public ResponseEntity<EmployeeIngestStatusDto> startIngest(@RequestParam String file) {
+        log.info("startIngest 호출 : {}", file);
+
+        Path path = ingestDir.resolve(file).normalize();
+        if (!path.startsWith(ingestDir)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!Files.isRegularFile(path)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        EmployeeIngestStatusDto status = employeeIngestService.submit(path);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/employees/ingest/" + status.getJobId()))
+                .body(status);
+    }
+
+    /**
+     * 적재 진행 상황 조회
+     * success: 200 code
+     * failed: 404 code
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<EmployeeIngestStatusDto> getIngest(@PathVariable String jobId) {
+        log.info("getIngest 호출 : {}", jobId);
+        return ResponseEntity.of(employeeIngestService.readStatus(jobId));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.helloworld.employee.domain;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Employee {
+
+    private Integer employeeId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    private LocalDate hireDate;
+    private String jobId;
+    private BigDecimal salary;
+    private BigDecimal commissionPct;
+    private Integer managerId;
+    private Integer departmentId;
+}
@@ -0,0 +1,28 @@
+package com.example.helloworld.employee.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeIngestStatusDto {
+
+    private String jobId;
+    private String file;
+    // RUNNING, COMPLETED, FAILED
+    private String state;
+    private long totalBytes;
+    private long processedBytes;
+    private double progress;
+    private long rowsRead;
+    private long inserted;
+    private long rejected;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    // 실패한 행을 모아 둔 파일 (offset,reason,line)
+    private String rejectFile;
+    private String message;
+}
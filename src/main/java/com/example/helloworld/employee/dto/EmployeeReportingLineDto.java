@@ -0,0 +1,15 @@
+package com.example.helloworld.employee.dto;
+
+import lombok.*;
+
+// 사원 - 관리자 관계 (조직도 인덱스 적재용)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeReportingLineDto {
+
+    private int employeeId;
+    private Integer managerId;
+}
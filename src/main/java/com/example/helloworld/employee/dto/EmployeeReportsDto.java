@@ -0,0 +1,20 @@
+package com.example.helloworld.employee.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeReportsDto {
+
+    private int employeeId;
+    private int totalReports;
+    private int offset;
+    // 조직도 전위 순회 순서 (관리자 다음에 그 부하들)
+    private List<Integer> employeeIds;
+}
@@ -0,0 +1,19 @@
+package com.example.helloworld.employee.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+// (부서, 직무, 급여) 별 인원 수 - 집계 뷰 초기 적재용
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSalaryBucketDto {
+
+    private Integer departmentId;
+    private String jobId;
+    private BigDecimal salary;
+    private long headcount;
+}
@@ -0,0 +1,23 @@
+package com.example.helloworld.employee.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeSalaryStatDto {
+
+    // 부서 번호 또는 직무 코드 (부서 없음 등은 null)
+    private String group;
+    private long headcount;
+    // 급여 통계는 salary 가 있는 사원만 대상
+    private BigDecimal minSalary;
+    private BigDecimal avgSalary;
+    private BigDecimal maxSalary;
+    private BigDecimal sumSalary;
+}
@@ -0,0 +1,27 @@
+package com.example.helloworld.employee.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+// 컬럼 스토어 스캔 조건 (null/빈 값인 조건은 적용하지 않음, 범위는 양 끝 포함)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeScanQuery {
+
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    private LocalDate hiredFrom;
+    private LocalDate hiredTo;
+    private Set<Integer> departmentIds;
+    private Set<String> jobIds;
+    // 결과에 담을 사원번호 최대 개수
+    @Builder.Default
+    private int limit = 100;
+}
@@ -0,0 +1,24 @@
+package com.example.helloworld.employee.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeScanResultDto {
+
+    private long matched;
+    // 급여 통계는 salary 가 있는 사원만 대상
+    private BigDecimal minSalary;
+    private BigDecimal avgSalary;
+    private BigDecimal maxSalary;
+    private BigDecimal sumSalary;
+    // 조건에 맞는 사원번호 (최대 limit 개, 적재 순서)
+    private List<Integer> employeeIds;
+}
@@ -0,0 +1,20 @@
+package com.example.helloworld.employee.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeSpanDto {
+
+    private int employeeId;
+    private Integer managerId;
+    // 최상위 관리자가 0
+    private int depth;
+    private int directReports;
+    // 직속 + 간접 부하 전체
+    private int totalReports;
+}
@@ -0,0 +1,305 @@
+package com.example.helloworld.employee.repository;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeScanQuery;
+import com.example.helloworld.employee.dto.EmployeeScanResultDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 분석용 사원 컬럼 스토어 (읽기 전용 스냅샷)
+ * - 컬럼마다 primitive 배열 하나 (행 하나에 객체를 만들지 않음)
+ * - JOB_ID, DEPARTMENT_ID 는 사전(dictionary) 코드로 저장하고, 조건은 코드별 허용 여부 배열로 바꿔 비교
+ * - salary null 여부는 bitmap, 스캔 결과도 bitmap(선택 벡터)
+ * - SEGMENT_ROWS 행씩 나눠 여러 코어에서 병렬 스캔
+ * 처음 스캔할 때 테이블에서 읽고, 이후 변경은 reload() / load() 로 다시 적재해야 반영됨
+ */
+@Slf4j
+@Repository
+public class EmployeeColumnStore {
+
+    // 64 의 배수라 segment 끼리 선택 bitmap 의 word 를 나눠 쓰지 않음 (락 없이 병렬 기록)
+    static final int SEGMENT_ROWS = 64 * 1024;
+
+    private final EmployeeRepository employeeRepository;
+    // PostgreSQL 등에서 fetchSize 단위 스트리밍은 트랜잭션 안에서만 동작
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Columns columns;
+
+    public EmployeeColumnStore(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * EMPLOYEES 테이블을 스트리밍으로 읽어 다시 적재
+     */
+    public synchronized int reload() {
+        Columns.Builder builder = new Columns.Builder();
+        readOnlyTransaction.executeWithoutResult(status ->
+                employeeRepository.streamAllEmployee(context -> builder.add(context.getResultObject())));
+        columns = builder.build();
+        log.info("employee 컬럼 스토어 적재 (table) : {}행", columns.size);
+        return columns.size;
+    }
+
+    /**
+     * 주어진 사원 목록으로 다시 적재 (csv 파일 등 테이블 밖의 원본용)
+     */
+    public synchronized int load(Stream<Employee> employees) {
+        Columns.Builder builder = new Columns.Builder();
+        employees.forEach(builder::add);
+        columns = builder.build();
+        log.info("employee 컬럼 스토어 적재 : {}행", columns.size);
+        return columns.size;
+    }
+
+    public int size() {
+        return columns().size;
+    }
+
+    /**
+     * 조건에 맞는 사원 수, 급여 통계, 사원번호(limit 개) 조회
+     */
+    public EmployeeScanResultDto scan(EmployeeScanQuery query) {
+        Columns c = columns();
+        Filter filter = Filter.of(query, c);
+        long[] selection = new long[(c.size + 63) >>> 6];
+        int segments = (c.size + SEGMENT_ROWS - 1) / SEGMENT_ROWS;
+
+        Partial total = IntStream.range(0, segments)
+                .parallel()
+                .mapToObj(segment -> scanSegment(c, filter, segment, selection))
+                .reduce(Partial::merge)
+                .orElseGet(Partial::new);
+
+        EmployeeScanResultDto.EmployeeScanResultDtoBuilder result = EmployeeScanResultDto.builder()
+                .matched(total.matched)
+                .employeeIds(selectedIds(c, selection, query.getLimit()));
+        if (total.salaryCount > 0) {
+            BigDecimal sum = BigDecimal.valueOf(total.sumCents, 2);
+            result.minSalary(BigDecimal.valueOf(total.minCents, 2))
+                    .maxSalary(BigDecimal.valueOf(total.maxCents, 2))
+                    .sumSalary(sum)
+                    .avgSalary(sum.divide(BigDecimal.valueOf(total.salaryCount), 2, RoundingMode.HALF_UP));
+        }
+        return result.build();
+    }
+
+    // Helper Method
+    private Columns columns() {
+        Columns current = columns;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (columns == null) {
+                reload();
+            }
+            return columns;
+        }
+    }
+
+    private static Partial scanSegment(Columns c, Filter filter, int segment, long[] selection) {
+        Partial partial = new Partial();
+        int from = segment * SEGMENT_ROWS;
+        int to = Math.min(c.size, from + SEGMENT_ROWS);
+
+        for (int row = from; row < to; row++) {
+            if (filter.departments != null && !filter.departments[c.departmentCode[row]]) {
+                continue;
+            }
+            if (filter.jobs != null && !filter.jobs[c.jobCode[row]]) {
+                continue;
+            }
+            int day = c.hireDay[row];
+            if (day < filter.fromDay || day > filter.toDay) {
+                continue;
+            }
+            boolean hasSalary = (c.hasSalary[row >>> 6] & (1L << row)) != 0;
+            long cents = c.salaryCents[row];
+            if (filter.salaryRange && (!hasSalary || cents < filter.minCents || cents > filter.maxCents)) {
+                continue;
+            }
+
+            selection[row >>> 6] |= 1L << row;
+            partial.matched++;
+            if (hasSalary) {
+                partial.salaryCount++;
+                partial.sumCents += cents;
+                partial.minCents = Math.min(partial.minCents, cents);
+                partial.maxCents = Math.max(partial.maxCents, cents);
+            }
+        }
+        return partial;
+    }
+
+    private static List<Integer> selectedIds(Columns c, long[] selection, int limit) {
+        List<Integer> ids = new ArrayList<>(Math.min(Math.max(limit, 0), 1024));
+        for (int word = 0; word < selection.length && ids.size() < limit; word++) {
+            long bits = selection[word];
+            while (bits != 0 && ids.size() < limit) {
+                int row = (word << 6) + Long.numberOfTrailingZeros(bits);
+                ids.add(c.employeeId[row]);
+                bits &= bits - 1;
+            }
+        }
+        return ids;
+    }
+
+    private static final class Columns {
+        final int size;
+        final int[] employeeId;
+        final int[] hireDay;            // LocalDate.toEpochDay
+        final long[] salaryCents;       // salary * 100 (null 이면 0)
+        final long[] hasSalary;         // salary null 여부 bitmap
+        final int[] departmentCode;
+        final Integer[] departments;    // 코드 -> DEPARTMENT_ID (0 번은 null)
+        final int[] jobCode;
+        final String[] jobs;            // 코드 -> JOB_ID
+
+        private Columns(Builder b) {
+            this.size = b.size;
+            this.employeeId = Arrays.copyOf(b.employeeId, b.size);
+            this.hireDay = Arrays.copyOf(b.hireDay, b.size);
+            this.salaryCents = Arrays.copyOf(b.salaryCents, b.size);
+            this.hasSalary = Arrays.copyOf(b.hasSalary, (b.size + 63) >>> 6);
+            this.departmentCode = Arrays.copyOf(b.departmentCode, b.size);
+            this.departments = b.departments.toArray(Integer[]::new);
+            this.jobCode = Arrays.copyOf(b.jobCode, b.size);
+            this.jobs = b.jobs.toArray(String[]::new);
+        }
+
+        private static final class Builder {
+            private int size;
+            private int[] employeeId = new int[1024];
+            private int[] hireDay = new int[1024];
+            private long[] salaryCents = new long[1024];
+            private long[] hasSalary = new long[16];
+            private int[] departmentCode = new int[1024];
+            private int[] jobCode = new int[1024];
+            private final List<Integer> departments = new ArrayList<>();
+            private final Map<Integer, Integer> departmentCodes = new HashMap<>();
+            private final List<String> jobs = new ArrayList<>();
+            private final Map<String, Integer> jobCodes = new HashMap<>();
+
+            Builder() {
+                departments.add(null);
+            }
+
+            void add(Employee employee) {
+                if (size == employeeId.length) {
+                    grow();
+                }
+                int row = size++;
+                employeeId[row] = employee.getEmployeeId();
+                hireDay[row] = employee.getHireDate() == null ? Integer.MIN_VALUE : (int) employee.getHireDate().toEpochDay();
+                if (employee.getSalary() != null) {
+                    salaryCents[row] = employee.getSalary().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+                    hasSalary[row >>> 6] |= 1L << row;
+                }
+                departmentCode[row] = employee.getDepartmentId() == null ? 0
+                        : departmentCodes.computeIfAbsent(employee.getDepartmentId(), id -> {
+                            departments.add(id);
+                            return departments.size() - 1;
+                        });
+                jobCode[row] = jobCodes.computeIfAbsent(String.valueOf(employee.getJobId()), id -> {
+                    jobs.add(id);
+                    return jobs.size() - 1;
+                });
+            }
+
+            Columns build() {
+                return new Columns(this);
+            }
+
+            private void grow() {
+                int capacity = employeeId.length * 2;
+                employeeId = Arrays.copyOf(employeeId, capacity);
+                hireDay = Arrays.copyOf(hireDay, capacity);
+                salaryCents = Arrays.copyOf(salaryCents, capacity);
+                hasSalary = Arrays.copyOf(hasSalary, (capacity + 63) >>> 6);
+                departmentCode = Arrays.copyOf(departmentCode, capacity);
+                jobCode = Arrays.copyOf(jobCode, capacity);
+            }
+        }
+    }
+
+    // 조회 조건을 primitive 비교값과 코드별 허용 배열로 미리 변환
+    private static final class Filter {
+        boolean[] departments;
+        boolean[] jobs;
+        int fromDay = Integer.MIN_VALUE;
+        int toDay = Integer.MAX_VALUE;
+        boolean salaryRange;
+        long minCents = Long.MIN_VALUE;
+        long maxCents = Long.MAX_VALUE;
+
+        static Filter of(EmployeeScanQuery query, Columns c) {
+            Filter filter = new Filter();
+            filter.departments = allowed(c.departments, query.getDepartmentIds());
+            filter.jobs = allowed(c.jobs, query.getJobIds());
+            LocalDate from = query.getHiredFrom();
+            LocalDate to = query.getHiredTo();
+            if (from != null) {
+                filter.fromDay = (int) from.toEpochDay();
+            }
+            if (to != null) {
+                filter.toDay = (int) to.toEpochDay();
+            }
+            if (query.getMinSalary() != null) {
+                filter.salaryRange = true;
+                filter.minCents = query.getMinSalary().movePointRight(2).setScale(0, RoundingMode.CEILING).longValueExact();
+            }
+            if (query.getMaxSalary() != null) {
+                filter.salaryRange = true;
+                filter.maxCents = query.getMaxSalary().movePointRight(2).setScale(0, RoundingMode.FLOOR).longValueExact();
+            }
+            return filter;
+        }
+
+        private static <T> boolean[] allowed(T[] dictionary, Set<T> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            boolean[] allowed = new boolean[dictionary.length];
+            for (int code = 0; code < dictionary.length; code++) {
+                allowed[code] = dictionary[code] != null && values.contains(dictionary[code]);
+            }
+            return allowed;
+        }
+    }
+
+    private static final class Partial {
+        long matched;
+        long salaryCount;
+        long sumCents;
+        long minCents = Long.MAX_VALUE;
+        long maxCents = Long.MIN_VALUE;
+
+        Partial merge(Partial other) {
+            matched += other.matched;
+            salaryCount += other.salaryCount;
+            sumCents += other.sumCents;
+            minCents = Math.min(minCents, other.minCents);
+            maxCents = Math.max(maxCents, other.maxCents);
+            return this;
+        }
+    }
+}
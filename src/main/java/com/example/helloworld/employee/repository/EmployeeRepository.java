@@ -0,0 +1,47 @@
+package com.example.helloworld.employee.repository;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeReportingLineDto;
+import com.example.helloworld.employee.dto.EmployeeSalaryBucketDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.ResultType;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.List;
+
+@Mapper
+public interface EmployeeRepository {
+
+    @Select("select count(*) from employees")
+    long countEmployees();
+
+    // 전체 조회 스트리밍 (한 행씩 handler 로 전달, 결과를 리스트로 모으지 않음)
+    @Select("select * from employees")
+    @Options(fetchSize = 1000, resultSetType = ResultSetType.FORWARD_ONLY)
+    @ResultType(Employee.class)
+    void streamAllEmployee(ResultHandler<Employee> handler);
+
+    // 사원 - 관리자 관계만 스트리밍 (조직도 인덱스 적재용)
+    @Select("select employee_id, manager_id from employees")
+    @Options(fetchSize = 1000, resultSetType = ResultSetType.FORWARD_ONLY)
+    @ResultType(EmployeeReportingLineDto.class)
+    void streamReportingLines(ResultHandler<EmployeeReportingLineDto> handler);
+
+    @Select("select * from employees where employee_id = #{employeeId}")
+    Employee findByEmployeeId(int employeeId);
+
+    // 수정 전 값을 읽고 트랜잭션 끝까지 행을 잠금 (동시 수정 시 집계 뷰에 같은 이전 값을 두 번 빼지 않도록)
+    @Select("select * from employees where employee_id = #{employeeId} for update")
+    Employee findByEmployeeIdForUpdate(int employeeId);
+
+    // 급여 분포 (행 수가 아니라 서로 다른 (부서, 직무, 급여) 조합 수만큼만 읽음)
+    @Select("select department_id, job_id, salary, count(*) as headcount from employees group by department_id, job_id, salary")
+    List<EmployeeSalaryBucketDto> findSalaryBuckets();
+
+    int insertEmployee(Employee employee);
+
+    int updateEmployee(Employee employee);
+}
@@ -0,0 +1,143 @@
+package com.example.helloworld.employee.service;
+
+import com.example.helloworld.employee.domain.Employee;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * employees.csv 한 줄을 Employee 로 변환
+ * 컬럼 순서: EMPLOYEE_ID,FIRST_NAME,LAST_NAME,EMAIL,PHONE_NUMBER,HIRE_DATE,JOB_ID,SALARY,COMMISSION_PCT,MANAGER_ID,DEPARTMENT_ID
+ * - 큰따옴표로 감싼 값 안의 쉼표 허용 (값 안의 줄바꿈은 허용하지 않음)
+ * - 빈 값은 null
+ * - 스키마 제약(필수값, 길이)을 여기서 미리 검사해 batch 가 깨지는 일을 줄임
+ * @throws IllegalArgumentException 형식이 맞지 않는 행 (메시지가 실패 사유)
+ */
+public final class EmployeeCsvParser {
+
+    private static final int COLUMNS = 11;
+
+    private EmployeeCsvParser() {
+    }
+
+    public static boolean isHeader(String line) {
+        return line.regionMatches(true, 0, "EMPLOYEE_ID", 0, "EMPLOYEE_ID".length());
+    }
+
+    public static Employee parse(String line) {
+        List<String> fields = split(line);
+        if (fields.size() != COLUMNS) {
+            throw new IllegalArgumentException("컬럼 수가 올바르지 않습니다 : " + fields.size());
+        }
+
+        return Employee.builder()
+                .employeeId(requiredInt(fields.get(0), "EMPLOYEE_ID"))
+                .firstName(text(fields.get(1), "FIRST_NAME", 20, false))
+                .lastName(text(fields.get(2), "LAST_NAME", 25, true))
+                .email(text(fields.get(3), "EMAIL", 25, true))
+                .phoneNumber(text(fields.get(4), "PHONE_NUMBER", 20, false))
+                .hireDate(date(fields.get(5), "HIRE_DATE"))
+                .jobId(text(fields.get(6), "JOB_ID", 10, true))
+                .salary(decimal(fields.get(7), "SALARY"))
+                .commissionPct(decimal(fields.get(8), "COMMISSION_PCT"))
+                .managerId(optionalInt(fields.get(9), "MANAGER_ID"))
+                .departmentId(optionalInt(fields.get(10), "DEPARTMENT_ID"))
+                .build();
+    }
+
+    // Helper Method
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(COLUMNS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String text(String value, String column, int maxLength, boolean required) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            if (required) {
+                throw new IllegalArgumentException(column + " 값이 없습니다");
+            }
+            return null;
+        }
+        if (trimmed.length() > maxLength) {
+            throw new IllegalArgumentException(column + " 길이가 " + maxLength + "자를 넘습니다");
+        }
+        return trimmed;
+    }
+
+    private static Integer requiredInt(String value, String column) {
+        Integer parsed = optionalInt(value, column);
+        if (parsed == null) {
+            throw new IllegalArgumentException(column + " 값이 없습니다");
+        }
+        return parsed;
+    }
+
+    private static Integer optionalInt(String value, String column) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(trimmed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 숫자 형식이 아닙니다 : " + trimmed);
+        }
+    }
+
+    private static BigDecimal decimal(String value, String column) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(trimmed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 숫자 형식이 아닙니다 : " + trimmed);
+        }
+    }
+
+    private static LocalDate date(String value, String column) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException(column + " 값이 없습니다");
+        }
+        try {
+            return LocalDate.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " 날짜 형식(yyyy-MM-dd)이 아닙니다 : " + trimmed);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.helloworld.employee.service;
+
+import com.example.helloworld.common.ReplicaDataSource;
+import com.example.helloworld.employee.dto.EmployeeReportingLineDto;
+import com.example.helloworld.employee.dto.EmployeeReportsDto;
+import com.example.helloworld.employee.dto.EmployeeSpanDto;
+import com.example.helloworld.employee.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * MANAGER_ID 조직도 인덱스
+ * - 사원 -> 관리자, 관리자 -> 직속 부하 관계를 메모리에 두고 등록/수정 때 그 관계만 바꿈 (DB 재조회 없음)
+ * - 전위 순회(Euler tour) 구간: 관리자 위치 p 의 부하 전체 = order[p+1 .. end[p]) 로 연속
+ *   -> 전체 부하 수 O(1), 부하 목록은 결과 크기만큼, 상하 관계 판단 O(1)
+ * - 구간은 관계가 바뀐 뒤 처음 조회할 때 메모리의 관계로 다시 계산 (여러 변경이 한 번의 재계산으로 합쳐짐)
+ *   재계산은 전체 인원 O(n) - 변경마다 구간을 옮기는 것도 배열 이동이라 O(n) 이므로 조회 때 몰아서 함
+ * - 관리자 변경은 lockManagerChanges 로 순환 확인부터 인덱스 반영까지 한 번에 하나씩 (같은 JVM 안에서만)
+ * - 지휘 계통(chain of command)은 관리자 포인터를 따라 올라가므로 조직 깊이만큼
+ */
+@Slf4j
+@Component
+public class EmployeeHierarchyIndex {
+
+    private final EmployeeRepository employeeRepository;
+    // PostgreSQL 등에서 fetchSize 단위 스트리밍은 트랜잭션 안에서만 동작
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 사원 -> 관리자 (없으면 null)
+    private final Map<Integer, Integer> managers = new HashMap<>();
+    // 관리자 -> 직속 부하 (등록 순서)
+    private final Map<Integer, Set<Integer>> reports = new HashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    // 순환 확인 ~ 커밋 후 인덱스 반영 (동시에 A->B, B->A 로 바꾸면 둘 다 확인을 통과할 수 있음)
+    private final ReentrantLock managerChanges = new ReentrantLock();
+
+    private volatile Tour tour = Tour.EMPTY;
+
+    public EmployeeHierarchyIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * DB 에서 관계를 다시 읽어 전체 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // 이후 변경은 커밋 시점에 반영하므로 복제 지연이 있는 replica 가 아닌 primary 에서 읽음
+        List<EmployeeReportingLineDto> lines = ReplicaDataSource.onPrimary(() -> {
+            List<EmployeeReportingLineDto> rows = new ArrayList<>();
+            readOnlyTransaction.executeWithoutResult(status ->
+                    employeeRepository.streamReportingLines(context -> rows.add(context.getResultObject())));
+            return rows;
+        });
+
+        write(() -> {
+            managers.clear();
+            reports.clear();
+            for (EmployeeReportingLineDto line : lines) {
+                link(line.getEmployeeId(), line.getManagerId());
+            }
+        });
+        Tour built = tour();
+        log.info("employee 조직도 인덱스 적재 : {}명, 최상위 {}명", managers.size(), built.roots);
+    }
+
+    public void added(int employeeId, Integer managerId) {
+        write(() -> link(employeeId, managerId));
+    }
+
+    public void moved(int employeeId, Integer managerId) {
+        write(() -> {
+            unlink(employeeId);
+            link(employeeId, managerId);
+        });
+    }
+
+    /**
+     * 관리자 변경 시작 (wouldCreateCycle 전에 잡고 moved 반영 또는 롤백 뒤 unlockManagerChanges)
+     */
+    public void lockManagerChanges() {
+        managerChanges.lock();
+    }
+
+    public void unlockManagerChanges() {
+        managerChanges.unlock();
+    }
+
+    /**
+     * managerId 를 employeeId 의 관리자로 두면 순환이 생기는지 (자기 자신 또는 자기 부하를 관리자로 지정)
+     */
+    public boolean wouldCreateCycle(int employeeId, Integer managerId) {
+        if (managerId == null) {
+            return false;
+        }
+        return read(() -> {
+            Integer current = managerId;
+            for (int hops = 0; current != null && hops <= managers.size(); hops++) {
+                if (current == employeeId) {
+                    return true;
+                }
+                current = managers.get(current);
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 지휘 계통 (직속 관리자부터 최상위까지)
+     */
+    public Optional<List<Integer>> chainOfCommand(int employeeId) {
+        return read(() -> {
+            if (!managers.containsKey(employeeId)) {
+                return Optional.empty();
+            }
+            List<Integer> chain = new ArrayList<>();
+            Integer current = managers.get(employeeId);
+            while (current != null && chain.size() <= managers.size()) {
+                chain.add(current);
+                current = managers.get(current);
+            }
+            return Optional.of(chain);
+        });
+    }
+
+    /**
+     * 관리 범위 (직속 부하 수, 전체 부하 수, 깊이)
+     */
+    public Optional<EmployeeSpanDto> span(int employeeId) {
+        Tour t = tour();
+        Integer position = t.position.get(employeeId);
+        if (position == null) {
+            return Optional.empty();
+        }
+        return Optional.of(EmployeeSpanDto.builder()
+                .employeeId(employeeId)
+                .managerId(t.manager[position] == Tour.NO_MANAGER ? null : t.manager[position])
+                .depth(t.depth[position])
+                .directReports(t.direct[position])
+                .totalReports(t.end[position] - position - 1)
+                .build());
+    }
+
+    /**
+     * 전체 부하 목록 (직속 + 간접), offset 부터 limit 명
+     */
+    public Optional<EmployeeReportsDto> reports(int employeeId, int offset, int limit) {
+        Tour t = tour();
+        Integer position = t.position.get(employeeId);
+        if (position == null) {
+            return Optional.empty();
+        }
+        int first = position + 1;
+        int total = t.end[position] - first;
+        int from = Math.min(first + Math.max(offset, 0), t.end[position]);
+        int to = (int) Math.min((long) from + Math.max(limit, 0), t.end[position]);
+        return Optional.of(EmployeeReportsDto.builder()
+                .employeeId(employeeId)
+                .totalReports(total)
+                .offset(from - first)
+                .employeeIds(Arrays.stream(t.order, from, to).boxed().toList())
+                .build());
+    }
+
+    /**
+     * ancestorId 가 employeeId 의 (직속 또는 간접) 관리자인지
+     */
+    public boolean isManagerOf(int ancestorId, int employeeId) {
+        Tour t = tour();
+        Integer ancestor = t.position.get(ancestorId);
+        Integer employee = t.position.get(employeeId);
+        return ancestor != null && employee != null && ancestor < employee && employee < t.end[ancestor];
+    }
+
+    // Helper Method
+    // 관계가 바뀌었으면 메모리의 관계로 구간을 다시 계산 (동시에 여러 요청이 와도 한 번만)
+    private Tour tour() {
+        Tour current = tour;
+        if (current.version == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            if (tour.version != version.get()) {
+                tour = read(this::buildTour);
+            }
+            return tour;
+        }
+    }
+
+    private Tour buildTour() {
+        long builtVersion = version.get();
+        int size = managers.size();
+        int[] order = new int[size];
+        int[] end = new int[size];
+        int[] depth = new int[size];
+        int[] direct = new int[size];
+        int[] manager = new int[size];
+        Map<Integer, Integer> position = new HashMap<>(size * 4 / 3 + 1);
+
+        // 관리자가 없거나 관리자가 아직 없는 사원이 최상위
+        List<Integer> roots = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : managers.entrySet()) {
+            if (entry.getValue() == null || !managers.containsKey(entry.getValue())) {
+                roots.add(entry.getKey());
+            }
+        }
+        Collections.sort(roots);
+
+        int next = 0;
+        Deque<Frame> stack = new ArrayDeque<>();
+        for (int root : roots) {
+            next = visit(root, 0, order, depth, direct, manager, position, next, stack);
+            while (!stack.isEmpty()) {
+                Frame frame = stack.peek();
+                if (frame.children.hasNext()) {
+                    next = visit(frame.children.next(), frame.depth + 1, order, depth, direct, manager, position, next, stack);
+                } else {
+                    end[stack.pop().position] = next;
+                }
+            }
+        }
+        if (next < size) {
+            log.warn("employee 조직도에 순환 관계가 있어 {}명을 색인하지 못함", size - next);
+        }
+        return new Tour(builtVersion, order, end, depth, direct, manager, position, roots.size());
+    }
+
+    private int visit(int employeeId, int level, int[] order, int[] depth, int[] direct, int[] manager,
+                      Map<Integer, Integer> position, int next, Deque<Frame> stack) {
+        Set<Integer> children = reports.getOrDefault(employeeId, Set.of());
+        Integer managerId = managers.get(employeeId);
+        order[next] = employeeId;
+        depth[next] = level;
+        direct[next] = children.size();
+        manager[next] = managerId == null ? Tour.NO_MANAGER : managerId;
+        position.put(employeeId, next);
+        stack.push(new Frame(next, level, children.iterator()));
+        return next + 1;
+    }
+
+    private void link(int employeeId, Integer managerId) {
+        managers.put(employeeId, managerId);
+        if (managerId != null) {
+            reports.computeIfAbsent(managerId, id -> new LinkedHashSet<>()).add(employeeId);
+        }
+    }
+
+    private void unlink(int employeeId) {
+        Integer managerId = managers.remove(employeeId);
+        if (managerId == null) {
+            return;
+        }
+        Set<Integer> siblings = reports.get(managerId);
+        if (siblings != null) {
+            siblings.remove(employeeId);
+            if (siblings.isEmpty()) {
+                reports.remove(managerId);
+            }
+        }
+    }
+
+    private void write(Runnable action) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            action.run();
+            version.incrementAndGet();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private <T> T read(Supplier<T> action) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return action.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private record Frame(int position, int depth, Iterator<Integer> children) {
+    }
+
+    private static final class Tour {
+        static final int NO_MANAGER = Integer.MIN_VALUE;
+        static final Tour EMPTY = new Tour(-1, new int[0], new int[0], new int[0], new int[0], new int[0], Map.of(), 0);
+
+        final long version;
+        final int[] order;      // 전위 순회 순서의 사원번호
+        final int[] end;        // 위치별 부하 구간의 끝 (exclusive)
+        final int[] depth;
+        final int[] direct;     // 직속 부하 수
+        final int[] manager;
+        final Map<Integer, Integer> position;
+        final int roots;
+
+        Tour(long version, int[] order, int[] end, int[] depth, int[] direct, int[] manager,
+             Map<Integer, Integer> position, int roots) {
+            this.version = version;
+            this.order = order;
+            this.end = end;
+            this.depth = depth;
+            this.direct = direct;
+            this.manager = manager;
+            this.position = position;
+            this.roots = roots;
+        }
+    }
+}
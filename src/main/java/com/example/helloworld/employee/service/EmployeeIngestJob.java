@@ -0,0 +1,153 @@
+package com.example.helloworld.employee.service;
+
+import com.example.helloworld.employee.dto.EmployeeIngestStatusDto;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 적재 작업 하나의 진행 상황
+ * 여러 worker 스레드가 동시에 갱신하므로 카운터는 모두 atomic
+ * 실패한 행은 메모리에 쌓지 않고 바로 reject 파일에 씀
+ */
+@Slf4j
+class EmployeeIngestJob {
+
+    enum State { RUNNING, COMPLETED, FAILED }
+
+    @Getter
+    private final String jobId;
+    @Getter
+    private final Path file;
+    private final Path rejectFile;
+    private final long startedAt = System.nanoTime();
+
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong processedBytes = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    // 10% 단위로 한 번씩만 진행률 로그
+    private final AtomicInteger loggedDecile = new AtomicInteger();
+
+    private volatile State state = State.RUNNING;
+    private volatile long finishedAt;
+    private volatile String message;
+    private BufferedWriter rejectWriter;
+
+    EmployeeIngestJob(String jobId, Path file, Path rejectFile) {
+        this.jobId = jobId;
+        this.file = file;
+        this.rejectFile = rejectFile;
+    }
+
+    void start(long totalBytes) {
+        this.totalBytes.set(totalBytes);
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void inserted(int count) {
+        inserted.addAndGet(count);
+    }
+
+    void processed(long bytes) {
+        long done = processedBytes.addAndGet(bytes);
+        long total = totalBytes.get();
+        if (total <= 0) {
+            return;
+        }
+        int decile = (int) (done * 10 / total);
+        int logged = loggedDecile.get();
+        if (decile > logged && loggedDecile.compareAndSet(logged, decile)) {
+            log.info("employee 적재 {} : {}% ({}행, {}행/s)", jobId, decile * 10, rowsRead.get(), rowsPerSecond());
+        }
+    }
+
+    /**
+     * 실패한 행 기록 (offset: 파일 내 byte 위치)
+     */
+    synchronized void reject(long offset, String reason, String line) {
+        rejected.incrementAndGet();
+        try {
+            if (rejectWriter == null) {
+                rejectWriter = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8);
+                rejectWriter.write("offset,reason,line");
+                rejectWriter.newLine();
+            }
+            rejectWriter.write(offset + "," + quote(reason) + "," + quote(line));
+            rejectWriter.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void complete() {
+        finish(State.COMPLETED, null);
+        log.info("employee 적재 완료 {} : {}행 중 {}건 등록, {}건 실패 ({}ms)",
+                jobId, rowsRead.get(), inserted.get(), rejected.get(), elapsedMillis());
+    }
+
+    void fail(Throwable e) {
+        finish(State.FAILED, e.getMessage());
+        log.error("employee 적재 실패 {} : {}", jobId, file, e);
+    }
+
+    EmployeeIngestStatusDto toStatus() {
+        long total = totalBytes.get();
+        return EmployeeIngestStatusDto.builder()
+                .jobId(jobId)
+                .file(file.toString())
+                .state(state.name())
+                .totalBytes(total)
+                .processedBytes(processedBytes.get())
+                .progress(total == 0 ? 0 : Math.min(1.0, (double) processedBytes.get() / total))
+                .rowsRead(rowsRead.get())
+                .inserted(inserted.get())
+                .rejected(rejected.get())
+                .elapsedMillis(elapsedMillis())
+                .rowsPerSecond(rowsPerSecond())
+                .rejectFile(rejected.get() > 0 ? rejectFile.toString() : null)
+                .message(message)
+                .build();
+    }
+
+    // Helper Method
+    private synchronized void finish(State state, String message) {
+        this.finishedAt = System.nanoTime();
+        this.message = message;
+        this.state = state;
+        if (rejectWriter != null) {
+            try {
+                rejectWriter.close();
+            } catch (IOException e) {
+                log.warn("reject 파일 닫기 실패 : {}", rejectFile, e);
+            }
+        }
+    }
+
+    private long elapsedMillis() {
+        long end = state == State.RUNNING ? System.nanoTime() : finishedAt;
+        return TimeUnit.NANOSECONDS.toMillis(end - startedAt);
+    }
+
+    private long rowsPerSecond() {
+        long millis = elapsedMillis();
+        return millis == 0 ? 0 : rowsRead.get() * 1000 / millis;
+    }
+
+    private static String quote(String value) {
+        return '"' + (value == null ? "" : value.replace("\"", "\"\"")) + '"';
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.helloworld.employee.service;
+
+import com.example.helloworld.employee.dto.EmployeeIngestStatusDto;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface EmployeeIngestService {
+
+    // 파일 적재를 끝까지 실행하고 결과 반환
+    EmployeeIngestStatusDto ingest(Path file);
+
+    // 백그라운드로 적재 시작 (작업은 한 번에 하나씩 순서대로 실행)
+    EmployeeIngestStatusDto submit(Path file);
+
+    Optional<EmployeeIngestStatusDto> readStatus(String jobId);
+}
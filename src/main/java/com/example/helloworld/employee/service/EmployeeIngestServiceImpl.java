@@ -0,0 +1,310 @@
+package com.example.helloworld.employee.service;
+
+import com.example.helloworld.common.BulkheadFullException;
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeIngestStatusDto;
+import com.example.helloworld.employee.repository.EmployeeBatchRepository;
+import com.example.helloworld.employee.repository.EmployeeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 대용량 사원 CSV 적재
+ * 1. 파일을 chunkBytes 크기로 나누되 경계는 줄바꿈에 맞춤 (순차 스캔 없이 경계 근처만 읽음)
+ * 2. chunk 별로 memory-mapped 로 읽어 병렬 파싱
+ * 3. batchSize 행씩 JDBC batch insert, batch 가 실패하면 그 batch 만 한 건씩 다시 넣어 실패 행을 찾음
+ * 4. 파싱/등록에 실패한 행은 reject 파일에 따로 모음
+ * 등록된 행은 바로 집계 뷰(EmployeeSalaryView), 조직도 인덱스(EmployeeHierarchyIndex)에 반영
+ * 한 행은 한 줄이어야 함 (따옴표 안 줄바꿈 미지원)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeIngestServiceImpl implements EmployeeIngestService {
+
+    private static final int MAX_FINISHED_JOBS = 100;
+    private static final int BULKHEAD_RETRIES = 100;
+    private static final long BULKHEAD_BACKOFF_MILLIS = 100;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeBatchRepository employeeBatchRepository;
+    private final EmployeeSalaryView employeeSalaryView;
+    private final EmployeeHierarchyIndex employeeHierarchyIndex;
+
+    private final Map<String, EmployeeIngestJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-ingest");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${employee.ingest.chunk-bytes:33554432}")
+    private long chunkBytes = 32L * 1024 * 1024;
+
+    @Value("${employee.ingest.batch-size:1000}")
+    private int batchSize = 1000;
+
+    // DB 커넥션 풀(bulkhead)보다 작게 두어 온라인 요청 몫을 남김
+    @Value("${employee.ingest.parallelism:4}")
+    private int parallelism = 4;
+
+    @Override
+    public EmployeeIngestStatusDto ingest(Path file) {
+        EmployeeIngestJob job = register(file);
+        run(job);
+        return job.toStatus();
+    }
+
+    @Override
+    public EmployeeIngestStatusDto submit(Path file) {
+        EmployeeIngestJob job = register(file);
+        jobExecutor.execute(() -> run(job));
+        return job.toStatus();
+    }
+
+    @Override
+    public Optional<EmployeeIngestStatusDto> readStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(EmployeeIngestJob::toStatus);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    // Helper Method
+    private EmployeeIngestJob register(Path file) {
+        if (jobs.size() >= MAX_FINISHED_JOBS) {
+            jobs.values().removeIf(job -> !"RUNNING".equals(job.toStatus().getState()));
+        }
+        String jobId = UUID.randomUUID().toString();
+        Path rejectFile = file.resolveSibling(file.getFileName() + "." + jobId.substring(0, 8) + ".rejected.csv");
+        EmployeeIngestJob job = new EmployeeIngestJob(jobId, file, rejectFile);
+        jobs.put(jobId, job);
+        return job;
+    }
+
+    private void run(EmployeeIngestJob job) {
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, workerFactory(job.getJobId()));
+        try (FileChannel channel = FileChannel.open(job.getFile(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = skipHeader(channel);
+            job.start(size);
+            job.processed(start);
+
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long from = start; from < size; ) {
+                long to = chunkEnd(channel, from, size);
+                long chunkFrom = from;
+                chunks.add(workers.submit(() -> ingestChunk(channel, chunkFrom, to, job)));
+                from = to;
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+            job.complete();
+        } catch (ExecutionException e) {
+            job.fail(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail(e);
+        } catch (IOException | RuntimeException e) {
+            job.fail(e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void ingestChunk(FileChannel channel, long from, long to, EmployeeIngestJob job) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<Row> batch = new ArrayList<>(batchSize);
+        byte[] line = new byte[256];
+        int limit = buffer.limit();
+        int lineStart = 0;
+        int flushedUpTo = 0;
+
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && buffer.get(i) != '\n') {
+                continue;
+            }
+            int length = i - lineStart;
+            if (length > 0 && buffer.get(lineStart + length - 1) == '\r') {
+                length--;
+            }
+            if (length > 0) {
+                if (line.length < length) {
+                    line = new byte[Math.max(length, line.length * 2)];
+                }
+                buffer.get(lineStart, line, 0, length);
+                String text = new String(line, 0, length, StandardCharsets.UTF_8);
+                parse(from + lineStart, text, batch, job);
+            }
+            lineStart = i + 1;
+
+            if (batch.size() >= batchSize) {
+                flush(batch, job);
+                int consumed = Math.min(lineStart, limit);
+                job.processed(consumed - flushedUpTo);
+                flushedUpTo = consumed;
+            }
+        }
+
+        flush(batch, job);
+        job.processed(limit - flushedUpTo);
+    }
+
+    private void parse(long offset, String text, List<Row> batch, EmployeeIngestJob job) {
+        job.rowRead();
+        try {
+            batch.add(new Row(offset, text, EmployeeCsvParser.parse(text)));
+        } catch (IllegalArgumentException e) {
+            job.reject(offset, e.getMessage(), text);
+        }
+    }
+
+    private void flush(List<Row> batch, EmployeeIngestJob job) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Employee> employees = batch.stream().map(Row::employee).toList();
+        try {
+            withBulkheadRetry(() -> employeeBatchRepository.insertEmployees(employees));
+            job.inserted(employees.size());
+            employees.forEach(this::indexInserted);
+        } catch (DataAccessException e) {
+            log.debug("batch insert 실패, 건별 재시도 : offset={}, size={}", batch.get(0).offset(), batch.size());
+            insertOneByOne(batch, job);
+        }
+        batch.clear();
+    }
+
+    private void insertOneByOne(List<Row> batch, EmployeeIngestJob job) {
+        for (Row row : batch) {
+            try {
+                if (withBulkheadRetry(() -> employeeRepository.insertEmployee(row.employee())) > 0) {
+                    job.inserted(1);
+                    indexInserted(row.employee());
+                    continue;
+                }
+                job.reject(row.offset(), "등록 실패", row.line());
+            } catch (DuplicateKeyException e) {
+                job.reject(row.offset(), "이미 존재하는 사원번호 또는 이메일입니다", row.line());
+            } catch (DataIntegrityViolationException e) {
+                job.reject(row.offset(), "입력값이 올바르지 않습니다", row.line());
+            } catch (DataAccessException e) {
+                log.warn("insert 실패 : employeeId={}", row.employee().getEmployeeId(), e);
+                job.reject(row.offset(), "등록 실패", row.line());
+            }
+        }
+    }
+
+    private void indexInserted(Employee employee) {
+        employeeSalaryView.added(employee);
+        employeeHierarchyIndex.added(employee.getEmployeeId(), employee.getManagerId());
+    }
+
+    // 온라인 요청이 몰려 bulkhead 가 거절하면 잠시 기다렸다가 다시 시도 (적재는 지연돼도 됨)
+    private <T> T withBulkheadRetry(Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (BulkheadFullException e) {
+                if (attempt >= BULKHEAD_RETRIES) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(BULKHEAD_BACKOFF_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 첫 줄이 헤더면 그 다음 위치, 아니면 0
+    private long skipHeader(FileChannel channel) throws IOException {
+        long end = nextLineStart(channel, 0, channel.size());
+        ByteBuffer head = ByteBuffer.allocate((int) Math.min(end, 64));
+        channel.read(head, 0);
+        String first = new String(head.array(), 0, head.position(), StandardCharsets.UTF_8);
+        if (first.startsWith("\uFEFF")) {
+            first = first.substring(1);
+        }
+        return EmployeeCsvParser.isHeader(first) ? end : 0;
+    }
+
+    // from 에서 chunkBytes 떨어진 위치 이후 첫 줄의 시작 (파일 끝을 넘지 않음)
+    private long chunkEnd(FileChannel channel, long from, long size) throws IOException {
+        long nominal = from + chunkBytes;
+        if (nominal >= size) {
+            return size;
+        }
+        return nextLineStart(channel, nominal - 1, size);
+    }
+
+    private long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long pos = position;
+        while (pos < size) {
+            probe.clear();
+            int read = channel.read(probe, pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    private static ThreadFactory workerFactory(String jobId) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "employee-ingest-" + jobId.substring(0, 8) + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Row(long offset, String line, Employee employee) {
+    }
+}
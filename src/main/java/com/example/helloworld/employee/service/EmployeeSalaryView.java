@@ -0,0 +1,186 @@
+package com.example.helloworld.employee.service;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeSalaryBucketDto;
+import com.example.helloworld.employee.dto.EmployeeSalaryStatDto;
+import com.example.helloworld.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부서별/직무별 인원, 급여 min/avg/max/sum 을 메모리에 유지하는 집계 뷰
+ * - 시작 시 (부서, 직무, 급여) 분포를 한 번 읽어 채우고, 이후에는 등록/수정분만 반영
+ * - 그룹마다 급여별 인원 수(정렬된 multiset)를 들고 있어 수정으로 최대/최소값이 빠져도 재계산 없이 갱신
+ * - EmployeeService, EmployeeIngestService 를 거치지 않은 변경(직접 SQL 등)은 rebuild() 로 다시 맞춤
+ * - rebuild 가 DB 를 읽는 동안 들어온 변경은 모아 두었다가 새 뷰에도 적용한 뒤 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeSalaryView {
+
+    // ConcurrentHashMap 은 null key 를 허용하지 않으므로 부서 없음 등은 이 값으로 저장
+    private static final String NONE = "";
+
+    private final EmployeeRepository employeeRepository;
+
+    private volatile Views views = new Views();
+    // 변경 반영과 뷰 교체를 엇갈리지 않게 함
+    private final Object deltaLock = new Object();
+    // rebuild 중에 들어온 변경 (rebuild 중이 아니면 null)
+    private List<Delta> buffered;
+
+    /**
+     * DB 에서 다시 읽어 뷰 전체를 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        // 읽기 시작 후 커밋된 변경은 읽은 값에 없을 수 있으므로 모아 두었다가 새 뷰에 다시 적용
+        synchronized (deltaLock) {
+            buffered = new ArrayList<>();
+        }
+        Views rebuilt = new Views();
+        List<EmployeeSalaryBucketDto> buckets;
+        try {
+            buckets = employeeRepository.findSalaryBuckets();
+            for (EmployeeSalaryBucketDto bucket : buckets) {
+                rebuilt.apply(keyOf(bucket.getDepartmentId()), keyOf(bucket.getJobId()),
+                        centsOf(bucket.getSalary()), bucket.getHeadcount());
+            }
+            synchronized (deltaLock) {
+                buffered.forEach(delta -> rebuilt.apply(delta.departmentKey(), delta.jobKey(), delta.cents(), delta.count()));
+                views = rebuilt;
+            }
+        } finally {
+            synchronized (deltaLock) {
+                buffered = null;
+            }
+        }
+        log.info("employee 집계 뷰 적재 : 급여 구간 {}개, 부서 {}개, 직무 {}개",
+                buckets.size(), rebuilt.byDepartment.size(), rebuilt.byJob.size());
+    }
+
+    public void added(Employee employee) {
+        apply(new Delta(keyOf(employee.getDepartmentId()), keyOf(employee.getJobId()), centsOf(employee.getSalary()), 1));
+    }
+
+    public void removed(Employee employee) {
+        apply(new Delta(keyOf(employee.getDepartmentId()), keyOf(employee.getJobId()), centsOf(employee.getSalary()), -1));
+    }
+
+    public void updated(Employee before, Employee after) {
+        removed(before);
+        added(after);
+    }
+
+    public List<EmployeeSalaryStatDto> byDepartment() {
+        return stats(views.byDepartment);
+    }
+
+    public List<EmployeeSalaryStatDto> byJob() {
+        return stats(views.byJob);
+    }
+
+    // Helper Method
+    private void apply(Delta delta) {
+        synchronized (deltaLock) {
+            views.apply(delta.departmentKey(), delta.jobKey(), delta.cents(), delta.count());
+            if (buffered != null) {
+                buffered.add(delta);
+            }
+        }
+    }
+
+    private List<EmployeeSalaryStatDto> stats(Map<String, SalaryAggregate> view) {
+        return view.entrySet().stream()
+                .map(entry -> entry.getValue().toStat(NONE.equals(entry.getKey()) ? null : entry.getKey()))
+                .filter(stat -> stat.getHeadcount() > 0)
+                .sorted(Comparator.comparing(EmployeeSalaryStatDto::getGroup,
+                        Comparator.nullsLast(Comparator.comparing(EmployeeSalaryView::sortKey))))
+                .toList();
+    }
+
+    // 부서 번호는 숫자 순으로 정렬
+    private static String sortKey(String group) {
+        return group.chars().allMatch(Character::isDigit) ? String.format("%20s", group) : group;
+    }
+
+    private static String keyOf(Object value) {
+        return value == null ? NONE : value.toString();
+    }
+
+    // NUMBER(8,2) 이므로 원 단위 이하 두 자리까지 long 으로 정확히 표현
+    private static Long centsOf(BigDecimal salary) {
+        return salary == null ? null : salary.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private record Delta(String departmentKey, String jobKey, Long cents, long count) {
+    }
+
+    private static final class Views {
+        private final Map<String, SalaryAggregate> byDepartment = new ConcurrentHashMap<>();
+        private final Map<String, SalaryAggregate> byJob = new ConcurrentHashMap<>();
+
+        void apply(String departmentKey, String jobKey, Long cents, long count) {
+            apply(byDepartment, departmentKey, cents, count);
+            apply(byJob, jobKey, cents, count);
+        }
+
+        // compute 는 key 단위로 원자적이라 그룹 생성/삭제와 갱신이 엇갈리지 않음
+        private static void apply(Map<String, SalaryAggregate> view, String key, Long cents, long count) {
+            view.compute(key, (k, aggregate) -> {
+                SalaryAggregate target = aggregate == null ? new SalaryAggregate() : aggregate;
+                target.add(cents, count);
+                return target.isEmpty() ? null : target;
+            });
+        }
+    }
+
+    private static final class SalaryAggregate {
+        private long headcount;
+        private long salaryCount;
+        private long sumCents;
+        // 급여(cents) -> 인원 수
+        private final TreeMap<Long, Long> salaries = new TreeMap<>();
+
+        synchronized void add(Long cents, long count) {
+            headcount += count;
+            if (cents == null) {
+                return;
+            }
+            salaryCount += count;
+            sumCents += cents * count;
+            salaries.merge(cents, count, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        synchronized boolean isEmpty() {
+            return headcount <= 0;
+        }
+
+        synchronized EmployeeSalaryStatDto toStat(String group) {
+            EmployeeSalaryStatDto.EmployeeSalaryStatDtoBuilder stat = EmployeeSalaryStatDto.builder()
+                    .group(group)
+                    .headcount(headcount);
+            if (salaryCount > 0 && !salaries.isEmpty()) {
+                BigDecimal sum = BigDecimal.valueOf(sumCents, 2);
+                stat.minSalary(BigDecimal.valueOf(salaries.firstKey(), 2))
+                        .maxSalary(BigDecimal.valueOf(salaries.lastKey(), 2))
+                        .sumSalary(sum)
+                        .avgSalary(sum.divide(BigDecimal.valueOf(salaryCount), 2, RoundingMode.HALF_UP));
+            }
+            return stat.build();
+        }
+    }
+}
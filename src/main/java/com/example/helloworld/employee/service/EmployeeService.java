@@ -0,0 +1,47 @@
+package com.example.helloworld.employee.service;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeReportsDto;
+import com.example.helloworld.employee.dto.EmployeeSalaryStatDto;
+import com.example.helloworld.employee.dto.EmployeeScanQuery;
+import com.example.helloworld.employee.dto.EmployeeScanResultDto;
+import com.example.helloworld.employee.dto.EmployeeSpanDto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public interface EmployeeService {
+
+    Employee readByEmployeeId(int employeeId);
+
+    boolean newEmployee(Employee employee);
+
+    // 대상이 없으면 empty, 관리자 지정으로 조직도에 순환이 생기면 IllegalArgumentException
+    Optional<Employee> updateEmployee(int employeeId, Employee employee);
+
+    // 전체 부하 (직속 + 간접), 대상이 없으면 empty
+    Optional<EmployeeReportsDto> readReports(int employeeId, int offset, int limit);
+
+    // 직속 관리자부터 최상위까지, 대상이 없으면 empty
+    Optional<List<Integer>> readChainOfCommand(int employeeId);
+
+    // 직속/전체 부하 수, 대상이 없으면 empty
+    Optional<EmployeeSpanDto> readSpanOfControl(int employeeId);
+
+    // 부서별 인원, 급여 통계
+    List<EmployeeSalaryStatDto> readDepartmentStats();
+
+    // 직무별 인원, 급여 통계
+    List<EmployeeSalaryStatDto> readJobStats();
+
+    // 컬럼 스토어 조건 스캔 (급여 범위, 입사일 범위, 부서/직무 목록)
+    EmployeeScanResultDto scanEmployees(EmployeeScanQuery query);
+
+    // 컬럼 스토어를 테이블에서 다시 적재, 적재한 행 수 반환
+    int reloadColumnStore();
+
+    // 컬럼 스토어를 employees.csv 형식 파일에서 다시 적재 (형식 오류 행은 건너뜀), 적재한 행 수 반환
+    int reloadColumnStore(Path csv) throws IOException;
+}
@@ -0,0 +1,167 @@
+package com.example.helloworld.employee.service;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeReportsDto;
+import com.example.helloworld.employee.dto.EmployeeSalaryStatDto;
+import com.example.helloworld.employee.dto.EmployeeScanQuery;
+import com.example.helloworld.employee.dto.EmployeeScanResultDto;
+import com.example.helloworld.employee.dto.EmployeeSpanDto;
+import com.example.helloworld.employee.repository.EmployeeColumnStore;
+import com.example.helloworld.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeServiceImpl implements EmployeeService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeSalaryView employeeSalaryView;
+    private final EmployeeColumnStore employeeColumnStore;
+    private final EmployeeHierarchyIndex employeeHierarchyIndex;
+
+    @Override
+    public Employee readByEmployeeId(int employeeId) {
+        return employeeRepository.findByEmployeeId(employeeId);
+    }
+
+    @Override
+    @Transactional
+    public boolean newEmployee(Employee employee) {
+        if (employeeRepository.insertEmployee(employee) == 0) {
+            return false;
+        }
+        afterCommit(() -> {
+            employeeSalaryView.added(employee);
+            employeeHierarchyIndex.added(employee.getEmployeeId(), employee.getManagerId());
+        });
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Employee> updateEmployee(int employeeId, Employee employee) {
+        Employee before = employeeRepository.findByEmployeeIdForUpdate(employeeId);
+        if (before == null) {
+            return Optional.empty();
+        }
+
+        boolean managerChanged = !Objects.equals(before.getManagerId(), employee.getManagerId());
+        if (managerChanged) {
+            // 인덱스는 커밋 후에 바뀌므로 트랜잭션이 끝날 때까지 다른 관리자 변경을 기다리게 함
+            afterCompletion(employeeHierarchyIndex::unlockManagerChanges);
+            employeeHierarchyIndex.lockManagerChanges();
+            if (employeeHierarchyIndex.wouldCreateCycle(employeeId, employee.getManagerId())) {
+                throw new IllegalArgumentException("자기 자신이나 부하를 관리자로 지정할 수 없습니다");
+            }
+        }
+
+        employee.setEmployeeId(employeeId);
+        employeeRepository.updateEmployee(employee);
+        afterCommit(() -> {
+            employeeSalaryView.updated(before, employee);
+            if (managerChanged) {
+                employeeHierarchyIndex.moved(employeeId, employee.getManagerId());
+            }
+        });
+        return Optional.of(employee);
+    }
+
+    @Override
+    public Optional<EmployeeReportsDto> readReports(int employeeId, int offset, int limit) {
+        return employeeHierarchyIndex.reports(employeeId, offset, limit);
+    }
+
+    @Override
+    public Optional<List<Integer>> readChainOfCommand(int employeeId) {
+        return employeeHierarchyIndex.chainOfCommand(employeeId);
+    }
+
+    @Override
+    public Optional<EmployeeSpanDto> readSpanOfControl(int employeeId) {
+        return employeeHierarchyIndex.span(employeeId);
+    }
+
+    @Override
+    public List<EmployeeSalaryStatDto> readDepartmentStats() {
+        return employeeSalaryView.byDepartment();
+    }
+
+    @Override
+    public List<EmployeeSalaryStatDto> readJobStats() {
+        return employeeSalaryView.byJob();
+    }
+
+    @Override
+    public EmployeeScanResultDto scanEmployees(EmployeeScanQuery query) {
+        return employeeColumnStore.scan(query);
+    }
+
+    @Override
+    public int reloadColumnStore() {
+        return employeeColumnStore.reload();
+    }
+
+    @Override
+    public int reloadColumnStore(Path csv) throws IOException {
+        try (Stream<String> lines = Files.lines(csv, StandardCharsets.UTF_8)) {
+            return employeeColumnStore.load(lines
+                    .filter(line -> !line.isBlank() && !EmployeeCsvParser.isHeader(line))
+                    .flatMap(this::parseOrSkip));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Helper Method
+    private Stream<Employee> parseOrSkip(String line) {
+        try {
+            return Stream.of(EmployeeCsvParser.parse(line));
+        } catch (IllegalArgumentException e) {
+            log.debug("컬럼 스토어 적재 - 형식 오류 행 건너뜀 : {}", e.getMessage());
+            return Stream.empty();
+        }
+    }
+
+    // 롤백된 변경이 집계에 들어가지 않도록 커밋 후에 반영
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 커밋/롤백 뒤에 실행 (afterCommit 으로 등록한 반영보다 나중)
+    private void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("트랜잭션 안에서만 사용할 수 있습니다");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
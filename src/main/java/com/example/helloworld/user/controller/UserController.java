@@ -2,6 +2,7 @@ package com.example.helloworld.user.controller;
 
 import com.example.helloworld.user.domain.User;
 import com.example.helloworld.user.dto.UserCreateDto2;
+import com.example.helloworld.user.repository.UserStore;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -10,21 +11,26 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/users")
 public class UserController {
 
-    // User information  초기화
-    private final List<User> users = new ArrayList<>(
-            Arrays.asList(
-                    new User("azeromo", "azero", "이영규", "azero@bzero.com", "2025-05-27"),
-                    new User("bzeromo", "bzero", "박영규", "bzero@bzero.com", "2025-05-27"),
-                    new User("czeromo", "czero", "김영규", "czero@bzero.com", "2025-05-27")
-            )
-    );
+    private final UserStore users;
+
+    public UserController(UserStore users) {
+        this.users = users;
+
+        // User information  초기화
+        users.save(new User("azeromo", "azero", "이영규", "azero@bzero.com", "2025-05-27"));
+        users.save(new User("bzeromo", "bzero", "박영규", "bzero@bzero.com", "2025-05-27"));
+        users.save(new User("czeromo", "czero", "김영규", "czero@bzero.com", "2025-05-27"));
+    }
 
     /**
      * 모든 유저 조회
@@ -33,7 +39,7 @@ public class UserController {
     @GetMapping
     public ResponseEntity<List<User>> getAllUsers() {
         log.info("getAllUsers 호출");
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(users.findAll());
     }
 
     /**
@@ -45,9 +51,7 @@ public class UserController {
     public ResponseEntity<User> getUserById(@PathVariable String userid) {
         log.info("getUserById 호출");
 
-        Optional<User> userOpt = users.stream()
-                .filter(user -> user.getUserId().equals(userid))
-                .findFirst();
+        Optional<User> userOpt = users.findById(userid);
 
         // 200 or 404
         return userOpt.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
@@ -56,12 +60,17 @@ public class UserController {
     /**
      * 유저 추가
      * success: 201 code
+     * failed: 400 code (userId 누락)
      */
     @PostMapping
     public ResponseEntity<User> createUser(@RequestBody User user) {
         log.info("createUser 호출");
 
-        users.add(user);
+        if(user.getUserId() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        users.save(user);
         return new ResponseEntity<>(user, HttpStatus.CREATED);
     }
 
@@ -73,19 +82,11 @@ public class UserController {
     @PutMapping("/{userid}")
     public ResponseEntity<User> modifyUser(@PathVariable String userid, @RequestBody User user) {
         log.info("modifyUser 호출");
-        Optional<User> userOpt = users.stream()
-                .filter(usr -> usr.getUserId().equals(userid))
-                .findFirst();
-
-        if(userOpt.isPresent()) {
-            User existUser = userOpt.get();
-            users.remove(existUser);
-            users.add(user);
 
-            return ResponseEntity.ok(user);
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+        // 200 or 404
+        return users.replace(userid, user)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -96,22 +97,15 @@ public class UserController {
     @PatchMapping("/{userid}")
     public ResponseEntity<User> patchUser(@PathVariable String userid, @RequestBody User user) {
         log.info("patchUser 호출");
-        Optional<User> userOpt = users.stream()
-                .filter(usr -> usr.getUserId().equals(userid))
-                .findFirst();
-
-        if(userOpt.isPresent()) {
-            User existUser = userOpt.get();
-            users.remove(existUser);
 
+        Optional<User> userOpt = users.update(userid, existUser -> {
             existUser.setName(user.getName());
             existUser.setEmail(user.getEmail());
-            users.add(existUser);
+            return existUser;
+        });
 
-            return ResponseEntity.ok(existUser);
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+        // 200 or 404
+        return userOpt.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -122,8 +116,7 @@ public class UserController {
     @DeleteMapping("/{userid}")
     public ResponseEntity<User> deleteUser(@PathVariable String userid) {
         log.info("deleteUser 호출");
-        boolean removed = users.removeIf(
-                user -> user.getUserId().equals(userid));
+        boolean removed = users.delete(userid);
 
         if(removed) {
             return ResponseEntity.noContent().build();
@@ -142,15 +135,15 @@ public class UserController {
     public ResponseEntity<?> createUser2(
             @Valid @RequestBody UserCreateDto2 user,
             BindingResult result) {
-        log.info("createUser2 호출 : {}", user.toString());
-        log.info("유효성 검사 메시지 : {}", result);
+        log.info("createUser2 호출 : {}", user);
+        log.debug("유효성 검사 메시지 : {}", result);
 
         if(result.hasErrors()) {
             Map<String, String> errors = new HashMap<>();
             for (FieldError error : result.getFieldErrors()) {
                 errors.put(error.getField(), error.getDefaultMessage());
-                log.info("errors : {}", errors);
             }
+            log.info("errors : {}", errors);
 
             return ResponseEntity.badRequest().body(errors);
         }
@@ -2,15 +2,24 @@ package com.example.helloworld.user.controller;
 
 import com.example.helloworld.user.domain.User;
 import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserBulkResultDto;
+import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.dto.UserLookupDto;
+import com.example.helloworld.user.dto.UserPageDto;
 import com.example.helloworld.user.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Slf4j
@@ -19,19 +28,112 @@ import java.util.List;
 @RequestMapping("/api/v2/users")
 public class UserController2 {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 모든 유저 조회
+     * cursor 나 size 를 주면 한 페이지씩 조회 (keyset 페이지네이션, 최신 가입순)
+     * 다음 페이지 커서는 X-Next-Cursor 헤더로 전달 (마지막 페이지면 헤더 없음)
      * success: 200 code
+     * failed: 400 code (잘못된 커서)
      */
     @GetMapping
-    public ResponseEntity<List<FindAllUserDto>> getAllUsers() {
+    public ResponseEntity<List<FindAllUserDto>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("getAllUsers 호출");
 
-        List<FindAllUserDto> users = userService.readAllUser();
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(userService.readAllUser());
+        }
+
+        UserPageDto page;
+        try {
+            page = userService.readUserPage(cursor, size == null ? 0 : size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getUsers());
+    }
+
+    /**
+     * 여러 아이디 한 번에 조회 - ?ids=a,b,c
+     * 요청 순서대로 users 에, 없는 아이디는 missing 에 담음 (한 번의 요청, chunk 당 쿼리 한 번)
+     * success: 200 code
+     * failed: 400 code (최대 아이디 수 초과)
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<UserLookupDto> getUsersByIds(@RequestParam List<String> ids) {
+        log.info("getUsersByIds 호출 : {}건", ids.size());
+
+        return lookup(ids);
+    }
 
-        return ResponseEntity.ok(users);
+    /**
+     * 여러 아이디 한 번에 조회 - 아이디 목록을 본문으로 (URL 길이 제한을 넘는 목록용)
+     * success: 200 code
+     * failed: 400 code (최대 아이디 수 초과)
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<UserLookupDto> lookupUsers(@RequestBody List<String> ids) {
+        log.info("lookupUsers 호출 : {}건", ids.size());
+
+        return lookup(ids);
+    }
+
+    /**
+     * 전체 유저 내보내기 (NDJSON, 한 줄에 한 명)
+     * DB 에서 읽는 대로 바로 써서 테이블 크기와 무관하게 메모리 사용량 일정
+     * success: 200 code
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        log.info("exportUsers 호출");
+
+        // 행마다 flush 하지 않고 generator 버퍼가 찰 때만 내보냄
+        ObjectWriter writer = objectMapper.writerFor(FindAllUserDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                // 값 사이 기본 구분자(공백) 대신 줄바꿈만 직접 씀
+                generator.setRootValueSeparator(null);
+                userService.exportAllUser(user -> {
+                    try {
+                        writer.writeValue(generator, user);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 유저 대량 등록
+     * 행별 결과는 실패한 행만 failures 에 담아서 반환
+     * success: 200 code
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<UserBulkResultDto> createUsers(@RequestBody List<UserCreateDto> users) {
+        log.info("createUsers 호출 : {}건", users.size());
+
+        UserBulkResultDto result = userService.newUsers(users);
+
+        return ResponseEntity.ok(result);
     }
 
     /**
@@ -52,4 +154,13 @@ public class UserController2 {
             return ResponseEntity.ok(user);
         }
     }
+
+    // Helper Method
+    private ResponseEntity<UserLookupDto> lookup(List<String> ids) {
+        try {
+            return ResponseEntity.ok(userService.readByUserIds(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
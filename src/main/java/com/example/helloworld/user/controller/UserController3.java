@@ -1,17 +1,18 @@
 package com.example.helloworld.user.controller;
 
 import com.example.helloworld.user.domain.User;
-import com.example.helloworld.user.dto.FindAllUserDto;
 import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.dto.UserPageDto;
 import com.example.helloworld.user.service.UserService;
 import com.example.helloworld.user.service.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.ArrayList;
 import java.util.Optional;
 
 @Slf4j
@@ -25,14 +26,26 @@ public class UserController3 {
 
     /**
      * (url에 동사를 넣는건 REST하지 못한 방식이지만 학습용이니 그러려니 하세용)
-     * 모든 유저 조회 후 view로 띄우기
+     * 유저 목록을 한 페이지씩 조회 후 view로 띄우기
+     * 페이지당 조회는 이 한 번뿐 (view 에서 api 를 다시 부르지 않음)
+     * size 를 생략하면 user.page.default-size, 최대 user.page.max-size
+     * 잘못된 커서는 400
      */
     @GetMapping("/getUsers")
-    public String getUsers(Model model) {
+    public String getUsers(@RequestParam(required = false) String cursor,
+                           @RequestParam(defaultValue = "0") int size,
+                           Model model) {
         log.info("getUsers 호출");
 
-        ArrayList<FindAllUserDto> users = userService.readAllUser();
-        model.addAttribute("users", users);
+        UserPageDto page;
+        try {
+            page = userService.readUserPage(cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다", e);
+        }
+        model.addAttribute("users", page.getUsers());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("size", size);
 
         return "views/listUser";
     }
@@ -28,7 +28,7 @@ public class UserController4 {
     @PostMapping("/newUser2")
     public String newUserOk(@Valid @ModelAttribute("userDto") UserCreateDto2 user, BindingResult result, Model model) {
         log.info("전송된 사용자 정보 : {}", user);
-        log.info("bindingResult : {}", result);
+        log.debug("bindingResult : {}", result);
 
         if(result.hasErrors()) {
             //model.addAttribute("userDto", user);
@@ -1,14 +1,23 @@
 package com.example.helloworld.user.controller;
 
-import com.example.helloworld.user.domain.User;
 import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserAvailabilityDto;
+import com.example.helloworld.user.dto.UserBulkResultDto;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import com.example.helloworld.user.dto.UserWriteResult;
 import com.example.helloworld.user.service.UserService5;
+import com.example.helloworld.user.service.UserWriteBehind;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,82 +27,220 @@ import java.util.Optional;
 @RequestMapping("/api/v5/users")
 public class UserController5 {
 
+    public static final String NEXT_PAGE_HEADER = "X-Next-Page";
+
     private final UserService5 userService5;
+    private final UserWriteBehind userWriteBehind;
 
     /**
      * 모든 유저 조회
+     * page 나 size 를 주면 한 페이지씩 조회 (최신 가입순, page 는 0 부터)
+     * 다음 페이지 번호는 X-Next-Page 헤더로 전달 (마지막 페이지면 헤더 없음)
      * success: 200 code
      */
     @GetMapping
-    public ResponseEntity<List<User3>> getAllUsers() {
+    public ResponseEntity<List<FindAllUserDto>> getAllUsers(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
         log.info("getAllUsers 호출");
 
-        List<User3> users = userService5.readAllUser();
+        if (page == null && size == null) {
+            return ResponseEntity.ok(userService5.readAllUser());
+        }
+
+        Slice<FindAllUserDto> users = userService5.readUserPage(page == null ? 0 : page, size == null ? 0 : size);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (users.hasNext()) {
+            response.header(NEXT_PAGE_HEADER, String.valueOf(users.getNumber() + 1));
+        }
+        return response.body(users.getContent());
+    }
 
-        return ResponseEntity.ok(users);
+    /**
+     * 아이디/이메일 사용 가능 여부 (가입 폼 입력 중 확인용, 둘 중 하나 이상 필요)
+     * 확인하지 않은 항목은 null
+     * success: 200 code
+     * failed: 400 code
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<UserAvailabilityDto> getAvailability(@RequestParam(required = false) String userId,
+                                                               @RequestParam(required = false) String email) {
+        log.info("getAvailability 호출");
+
+        if (userId == null && email == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(userService5.checkAvailability(userId, email));
     }
 
     /**
      * 특정 id로 식별 - 경로변수로 사용자 검색
+     * ETag 헤더로 현재 버전을 전달 (수정/삭제 시 If-Match 로 사용, DB 반영 전인 유저는 ETag 없음)
      * success: 200 code
      * failed: 404 code
      */
     @GetMapping("/{userid}")
-    public ResponseEntity<?> getUserById(@PathVariable String userid) {
+    public ResponseEntity<User3> getUserById(@PathVariable String userid) {
         log.info("getUserById 호출");
 
         Optional <User3> user = userService5.readByUserId(userid);
 
-        return ResponseEntity.ok(user);
+        return user.map(found -> found.getVersion() == null
+                        ? ResponseEntity.ok().body(found)
+                        : ResponseEntity.ok().eTag(etagOf(found)).body(found))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
      * 유저 추가
-     * success: 201 code
+     * write-behind 가 켜져 있으면 WAL 에 기록하고 바로 응답, DB 반영은 나중에 (Location 헤더로 조회 경로 전달)
+     * success: 201 code (write-behind 면 202 code)
+     * failed: 409 code (이미 존재하는 아이디/이메일), 400 code (write-behind 에서 빈 값), 503 code (write-behind 대기 한도 초과)
      */
     @PostMapping
     public ResponseEntity<User3> createUser(@RequestBody User3 userParam) {
         log.info("createUser 호출");
 
-        User3 user = userService5.newUser(userParam);
+        if (userWriteBehind.isEnabled()) {
+            try {
+                userWriteBehind.submit(userParam);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            } catch (DataIntegrityViolationException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            }
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v5/users/" + userParam.getUserId()))
+                    .body(userParam);
+        }
+
+        User3 user;
+        try {
+            user = userService5.newUser(userParam);
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
 
         return new ResponseEntity<>(user, HttpStatus.CREATED);
     }
 
     /**
-     * 사용자 정보 전체 수정
-     * success: 200 code
-     * failed: 404 code
+     * 유저 대량 추가 (한 트랜잭션, 하나라도 실패하면 전체 롤백)
+     * success: 201 code
+     * failed: 409 code (이미 존재하는 아이디/이메일 포함)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<UserBulkResultDto> createUsers(@RequestBody List<User3> users) {
+        log.info("createUsers 호출 : {}건", users.size());
+
+        int created;
+        try {
+            created = userService5.newUsers(users);
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        return new ResponseEntity<>(UserBulkResultDto.builder().total(users.size()).succeeded(created).build(), HttpStatus.CREATED);
+    }
+
+    /**
+     * 사용자 정보 전체 수정 (비밀번호, 이름, 이메일 모두 필수)
+     * If-Match 헤더(GET 응답의 ETag)를 주면 그 버전일 때만 수정
+     * success: 204 code
+     * failed: 404 code, 412 code (버전 불일치), 409 code (중복 이메일), 400 code
      */
     @PutMapping("/{userid}")
-    public ResponseEntity<User> modifyUser(@PathVariable String userid, @RequestBody User user) {
+    public ResponseEntity<Void> modifyUser(@PathVariable String userid,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                           @RequestBody UserUpdateDto user) {
         log.info("modifyUser 호출");
 
-        return ResponseEntity.ok(null);
+        if (!user.isComplete()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return update(userid, ifMatch, user);
     }
 
     /**
-     * 사용자 정보 중 이름, 이메일 수정
-     * success: 200 code
-     * failed: 404 code
+     * 사용자 정보 중 일부 수정 (보낸 값만 변경)
+     * If-Match 헤더(GET 응답의 ETag)를 주면 그 버전일 때만 수정
+     * success: 204 code
+     * failed: 404 code, 412 code (버전 불일치), 409 code (중복 이메일), 400 code
      */
     @PatchMapping("/{userid}")
-    public ResponseEntity<User> patchUser(@PathVariable String userid, @RequestBody User user) {
+    public ResponseEntity<Void> patchUser(@PathVariable String userid,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                          @RequestBody UserUpdateDto user) {
         log.info("patchUser 호출");
 
-        return ResponseEntity.ok(null);
+        if (user.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return update(userid, ifMatch, user);
     }
 
     /**
      * 사용자 정보 삭제
+     * If-Match 헤더(GET 응답의 ETag)를 주면 그 버전일 때만 삭제
      * success: 204 code
-     * failed: 404 code
+     * failed: 404 code, 412 code (버전 불일치), 400 code
      */
     @DeleteMapping("/{userid}")
-    public ResponseEntity<User> deleteUser(@PathVariable String userid) {
+    public ResponseEntity<Void> deleteUser(@PathVariable String userid,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("deleteUser 호출");
 
-        return ResponseEntity.ok(null);
+        Long version;
+        try {
+            version = versionOf(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return toResponse(userService5.deleteUser(userid, version));
     }
 
+    // Helper Method
+    private ResponseEntity<Void> update(String userId, String ifMatch, UserUpdateDto user) {
+        Long version;
+        try {
+            version = versionOf(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return toResponse(userService5.updateUser(userId, version, user));
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    private ResponseEntity<Void> toResponse(UserWriteResult result) {
+        return switch (result) {
+            case DONE -> ResponseEntity.noContent().build();
+            case NOT_FOUND -> ResponseEntity.notFound().build();
+            case VERSION_MISMATCH -> ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        };
+    }
+
+    // If-Match: "3" 또는 W/"3" -> 3, 없거나 * 이면 null (버전 확인 안 함)
+    private Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match 형식이 올바르지 않습니다 : " + ifMatch);
+        }
+    }
+
+    private static String etagOf(User3 user) {
+        return "\"" + user.getVersion() + "\"";
+    }
 }
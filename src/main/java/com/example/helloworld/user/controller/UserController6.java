@@ -0,0 +1,211 @@
+package com.example.helloworld.user.controller;
+
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserBulkResultDto;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import com.example.helloworld.user.dto.UserWriteResult;
+import com.example.helloworld.user.service.UserService6;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * v5 와 같은 계약의 reactive 사용자 API (R2DBC)
+ * Mono/Flux 를 반환하므로 DB 응답을 기다리는 동안 요청 스레드를 잡지 않음
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v6/users")
+public class UserController6 {
+
+    private final UserService6 userService6;
+
+    /**
+     * 유저 목록 조회 (최신 가입순, page 는 0 부터)
+     * 다음 페이지 번호는 X-Next-Page 헤더로 전달 (마지막 페이지면 헤더 없음)
+     * success: 200 code
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<FindAllUserDto>>> getAllUsers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "0") int size) {
+        log.info("getAllUsers 호출");
+
+        return userService6.readUserPage(page, size)
+                .map(users -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (users.hasNext()) {
+                        response.header(UserController5.NEXT_PAGE_HEADER, String.valueOf(users.getNumber() + 1));
+                    }
+                    return response.body(users.getContent());
+                });
+    }
+
+    /**
+     * 전체 유저 스트리밍 (NDJSON, 한 줄에 한 명)
+     * 클라이언트가 읽는 속도만큼만 DB 에서 가져옴 (backpressure)
+     * success: 200 code
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<FindAllUserDto> streamUsers() {
+        log.info("streamUsers 호출");
+
+        return userService6.streamAllUser();
+    }
+
+    /**
+     * 특정 id로 식별 - 경로변수로 사용자 검색
+     * ETag 헤더로 현재 버전을 전달 (수정/삭제 시 If-Match 로 사용)
+     * success: 200 code
+     * failed: 404 code
+     */
+    @GetMapping("/{userid}")
+    public Mono<ResponseEntity<User3>> getUserById(@PathVariable String userid) {
+        log.info("getUserById 호출");
+
+        return userService6.readByUserId(userid)
+                .map(found -> ResponseEntity.ok().eTag(etagOf(found)).body(found))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 유저 추가
+     * success: 201 code
+     * failed: 409 code (이미 존재하는 아이디/이메일)
+     */
+    @PostMapping
+    public Mono<ResponseEntity<User3>> createUser(@RequestBody User3 userParam) {
+        log.info("createUser 호출");
+
+        return userService6.newUser(userParam)
+                .map(user -> new ResponseEntity<>(user, HttpStatus.CREATED))
+                .onErrorResume(DataIntegrityViolationException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()));
+    }
+
+    /**
+     * 유저 대량 추가 (한 트랜잭션, 하나라도 실패하면 전체 롤백)
+     * success: 201 code
+     * failed: 409 code (이미 존재하는 아이디/이메일 포함)
+     */
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<UserBulkResultDto>> createUsers(@RequestBody List<User3> users) {
+        log.info("createUsers 호출 : {}건", users.size());
+
+        return userService6.newUsers(users)
+                .map(created -> new ResponseEntity<>(
+                        UserBulkResultDto.builder().total(users.size()).succeeded(created).build(), HttpStatus.CREATED))
+                .onErrorResume(DataIntegrityViolationException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()));
+    }
+
+    /**
+     * 사용자 정보 전체 수정 (비밀번호, 이름, 이메일 모두 필수)
+     * If-Match 헤더(GET 응답의 ETag)를 주면 그 버전일 때만 수정
+     * success: 204 code
+     * failed: 404 code, 412 code (버전 불일치), 409 code (중복 이메일), 400 code
+     */
+    @PutMapping("/{userid}")
+    public Mono<ResponseEntity<Void>> modifyUser(@PathVariable String userid,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                 @RequestBody UserUpdateDto user) {
+        log.info("modifyUser 호출");
+
+        if (!user.isComplete()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return update(userid, ifMatch, user);
+    }
+
+    /**
+     * 사용자 정보 중 일부 수정 (보낸 값만 변경)
+     * If-Match 헤더(GET 응답의 ETag)를 주면 그 버전일 때만 수정
+     * success: 204 code
+     * failed: 404 code, 412 code (버전 불일치), 409 code (중복 이메일), 400 code
+     */
+    @PatchMapping("/{userid}")
+    public Mono<ResponseEntity<Void>> patchUser(@PathVariable String userid,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                @RequestBody UserUpdateDto user) {
+        log.info("patchUser 호출");
+
+        if (user.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return update(userid, ifMatch, user);
+    }
+
+    /**
+     * 사용자 정보 삭제
+     * If-Match 헤더(GET 응답의 ETag)를 주면 그 버전일 때만 삭제
+     * success: 204 code
+     * failed: 404 code, 412 code (버전 불일치), 400 code
+     */
+    @DeleteMapping("/{userid}")
+    public Mono<ResponseEntity<Void>> deleteUser(@PathVariable String userid,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("deleteUser 호출");
+
+        Long version;
+        try {
+            version = versionOf(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return userService6.deleteUser(userid, version).map(this::toResponse);
+    }
+
+    // Helper Method
+    private Mono<ResponseEntity<Void>> update(String userId, String ifMatch, UserUpdateDto user) {
+        Long version;
+        try {
+            version = versionOf(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        return userService6.updateUser(userId, version, user)
+                .map(this::toResponse)
+                .onErrorResume(DataIntegrityViolationException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()));
+    }
+
+    private ResponseEntity<Void> toResponse(UserWriteResult result) {
+        return switch (result) {
+            case DONE -> ResponseEntity.noContent().build();
+            case NOT_FOUND -> ResponseEntity.notFound().build();
+            case VERSION_MISMATCH -> ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        };
+    }
+
+    // If-Match: "3" 또는 W/"3" -> 3, 없거나 * 이면 null (버전 확인 안 함)
+    private Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match 형식이 올바르지 않습니다 : " + ifMatch);
+        }
+    }
+
+    private static String etagOf(User3 user) {
+        return "\"" + user.getVersion() + "\"";
+    }
+}
@@ -1,38 +1,89 @@
 package com.example.helloworld.user.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
 @Table(name="users")
-public class User3 {
+public class User3 implements Persistable<String> {
+
+    // schema.sql 의 컬럼 길이 (DB 에 보내기 전에 검사할 때 사용)
+    public static final int USER_ID_LENGTH = 18;
+    public static final int PASSWORD_LENGTH = 18;
+    public static final int NAME_LENGTH = 10;
+    public static final int EMAIL_LENGTH = 50;
 
     @Id
+    @Column(length = USER_ID_LENGTH)
     private String userId;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = PASSWORD_LENGTH)
     private String password;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = NAME_LENGTH)
     private String name;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = EMAIL_LENGTH)
     private String email;
 
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    // 낙관적 잠금 버전 (GET 응답의 ETag, 수정/삭제 요청의 If-Match 로 사용)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // userId 를 직접 지정하므로 id 만으로는 새 엔티티인지 알 수 없음
+    // -> save() 가 merge(SELECT 후 INSERT) 대신 바로 persist(INSERT) 하도록 직접 표시
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public User3(String userId, String password, String name, String email, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.password = password;
+        this.name = name;
+        this.email = email;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return userId;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    // DB 에서 읽었거나 저장된 엔티티는 이후 save() 시 merge (캐시 값으로 다시 만든 엔티티도)
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        this.newEntity = false;
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.helloworld.user.dto;
+
+import lombok.*;
+
+// 아이디/이메일 사용 가능 여부 (요청하지 않은 항목은 null)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserAvailabilityDto {
+
+    private String userId;
+    private Boolean userIdAvailable;
+    private String email;
+    private Boolean emailAvailable;
+}
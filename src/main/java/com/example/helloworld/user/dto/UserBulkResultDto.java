@@ -0,0 +1,31 @@
+package com.example.helloworld.user.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBulkResultDto {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    // 실패한 행만 (요청 목록 기준 index)
+    @Builder.Default
+    private List<Failure> failures = new ArrayList<>();
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Failure {
+        private int index;
+        private String userId;
+        private String message;
+    }
+}
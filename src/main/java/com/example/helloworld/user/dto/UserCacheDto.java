@@ -0,0 +1,26 @@
+package com.example.helloworld.user.dto;
+
+import com.example.helloworld.user.domain.User3;
+
+import java.time.LocalDateTime;
+
+/**
+ * 단건 조회 캐시(users5)에 넣는 유저 값 (불변)
+ * 엔티티를 그대로 캐시하면 받은 쪽에서 고친 값이 다른 요청에도 보이므로, 꺼낼 때마다 새 엔티티로 만들어 돌려줌
+ */
+public record UserCacheDto(String userId, String password, String name, String email,
+                           LocalDateTime createdAt, Long version) {
+
+    public static UserCacheDto of(User3 user) {
+        return new UserCacheDto(user.getUserId(), user.getPassword(), user.getName(), user.getEmail(),
+                user.getCreatedAt(), user.getVersion());
+    }
+
+    // 이미 저장된 행이므로 save() 시 persist 가 아닌 merge
+    public User3 toEntity() {
+        User3 user = new User3(userId, password, name, email, createdAt);
+        user.setVersion(version);
+        user.markNotNew();
+        return user;
+    }
+}
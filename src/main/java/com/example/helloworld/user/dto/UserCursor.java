@@ -0,0 +1,39 @@
+package com.example.helloworld.user.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 커서 (createdAt desc, userId desc 기준 마지막 행)
+ * 클라이언트에는 base64url 로 인코딩한 불투명 토큰으로만 노출
+ * createdAt 은 nullable 컬럼이므로 null 도 그대로 담음 (토큰에서는 빈 값)
+ */
+public record UserCursor(LocalDateTime createdAt, String userId) {
+
+    private static final String DELIMITER = "\n";
+
+    public static UserCursor of(FindAllUserDto last) {
+        String createdAt = last.getCreatedAt();
+        return new UserCursor(createdAt == null ? null : Timestamp.valueOf(createdAt).toLocalDateTime(), last.getUserId());
+    }
+
+    public String encode() {
+        String raw = (createdAt == null ? "" : Timestamp.valueOf(createdAt).toString()) + DELIMITER + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 잘못된 커서 토큰
+     */
+    public static UserCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int idx = raw.indexOf(DELIMITER);
+        if (idx < 0) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        String createdAt = raw.substring(0, idx);
+        return new UserCursor(createdAt.isEmpty() ? null : Timestamp.valueOf(createdAt).toLocalDateTime(), raw.substring(idx + 1));
+    }
+}
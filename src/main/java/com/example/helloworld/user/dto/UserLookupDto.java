@@ -0,0 +1,23 @@
+package com.example.helloworld.user.dto;
+
+import com.example.helloworld.user.domain.User;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 여러 아이디 한 번에 조회 결과 (users 는 요청 순서, 중복 아이디는 한 번만)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserLookupDto {
+
+    @Builder.Default
+    private List<User> users = new ArrayList<>();
+    // 없는 아이디 (요청 순서)
+    @Builder.Default
+    private List<String> missing = new ArrayList<>();
+}
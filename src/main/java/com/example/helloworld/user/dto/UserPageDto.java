@@ -0,0 +1,19 @@
+package com.example.helloworld.user.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPageDto {
+
+    private List<FindAllUserDto> users;
+    // 마지막 페이지면 null
+    private String nextCursor;
+
+}
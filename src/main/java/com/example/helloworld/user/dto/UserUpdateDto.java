@@ -0,0 +1,25 @@
+package com.example.helloworld.user.dto;
+
+import lombok.*;
+
+// 유저 수정 요청 (PATCH 는 null 이 아닌 값만 변경, PUT 은 모두 필수)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserUpdateDto {
+
+    private String password;
+    private String name;
+    private String email;
+
+    public boolean isEmpty() {
+        return password == null && name == null && email == null;
+    }
+
+    public boolean isComplete() {
+        return password != null && name != null && email != null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.helloworld.user.dto;
+
+// 수정/삭제 결과
+public enum UserWriteResult {
+    DONE,
+    NOT_FOUND,
+    // If-Match 로 받은 버전과 현재 버전이 다름 (그 사이 다른 요청이 수정)
+    VERSION_MISMATCH
+}
@@ -0,0 +1,28 @@
+package com.example.helloworld.user.repository;
+
+import com.example.helloworld.common.MybatisBatchExecutor;
+import com.example.helloworld.user.dto.UserCreateDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ExecutorType.BATCH 로 UserRepository 의 insert 를 묶어서 실행 (MybatisBatchExecutor)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    private final MybatisBatchExecutor batchExecutor;
+
+    /**
+     * 한 번의 JDBC batch 로 유저 등록
+     * 호출한 쪽 트랜잭션이 있으면 그 안에서, 없으면 새 트랜잭션으로 실행
+     * 한 건이라도 실패하면 전체 롤백 후 예외 (DataAccessException)
+     * @return 행별 update count (드라이버에 따라 Statement.SUCCESS_NO_INFO)
+     */
+    public int[] insertUsers(List<UserCreateDto> users) {
+        return batchExecutor.execute(UserRepository.class, users, UserRepository::insertUser);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.helloworld.user.repository;
+
+import com.example.helloworld.user.dto.UserUpdateDto;
+
+// UserRepository5 에 붙는 custom fragment (구현: UserPatchRepositoryImpl)
+public interface UserPatchRepository {
+
+    /**
+     * 바뀐 컬럼만 SET 하는 UPDATE 한 번 (엔티티를 읽지 않음), version 은 1 증가
+     * expectedVersion 이 있으면 그 버전일 때만 수정
+     * @return 수정된 행 수 (0: 없는 유저 또는 버전 불일치)
+     */
+    int patch(String userId, Long expectedVersion, UserUpdateDto changes);
+}
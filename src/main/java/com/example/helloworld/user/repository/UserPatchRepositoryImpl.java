@@ -0,0 +1,42 @@
+package com.example.helloworld.user.repository;
+
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class UserPatchRepositoryImpl implements UserPatchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int patch(String userId, Long expectedVersion, UserUpdateDto changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User3> update = cb.createCriteriaUpdate(User3.class);
+        Root<User3> user = update.from(User3.class);
+
+        if (changes.getPassword() != null) {
+            update.set(user.<String>get("password"), changes.getPassword());
+        }
+        if (changes.getName() != null) {
+            update.set(user.<String>get("name"), changes.getName());
+        }
+        if (changes.getEmail() != null) {
+            update.set(user.<String>get("email"), changes.getEmail());
+        }
+        update.set(user.<Long>get("version"), cb.sum(user.<Long>get("version"), 1L));
+
+        Predicate where = cb.equal(user.get("userId"), userId);
+        if (expectedVersion != null) {
+            where = cb.and(where, cb.equal(user.get("version"), expectedVersion));
+        }
+        update.where(where);
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
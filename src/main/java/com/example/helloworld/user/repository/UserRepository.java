@@ -3,9 +3,16 @@ package com.example.helloworld.user.repository;
 import com.example.helloworld.user.domain.User;
 import com.example.helloworld.user.dto.FindAllUserDto;
 import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.dto.UserCursor;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.ResultType;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -14,9 +21,27 @@ public interface UserRepository {
     @Select("select userId, email, createdAt from users order by createdAt desc")
     List<FindAllUserDto> findAllUser();
 
+    // 전체 조회 스트리밍 (한 행씩 handler 로 전달, 결과를 리스트로 모으지 않음)
+    @Select("select userId, email, createdAt from users order by createdAt desc")
+    @Options(fetchSize = 1000, resultSetType = ResultSetType.FORWARD_ONLY)
+    @ResultType(FindAllUserDto.class)
+    void streamAllUser(ResultHandler<FindAllUserDto> handler);
+
+    // 아이디/이메일만 스트리밍 (정렬 없음, 중복 확인용 Bloom filter 적재)
+    @Select("select userId, email from users")
+    @Options(fetchSize = 1000, resultSetType = ResultSetType.FORWARD_ONLY)
+    @ResultType(FindAllUserDto.class)
+    void streamUserKeys(ResultHandler<FindAllUserDto> handler);
+
+    // keyset 페이지 조회 (cursor 가 null 이면 첫 페이지), limit 건수만큼만 읽음
+    List<FindAllUserDto> findUserPage(@Param("cursor") UserCursor cursor, @Param("limit") int limit);
+
     @Select("select * from users where userId = #{userId}")
     User findByUserId(String userId);
 
 
+    // where userId in (...), userIds 는 비어 있으면 안 됨
+    List<User> findByUserIds(@Param("userIds") Collection<String> userIds);
+
     int insertUser(UserCreateDto user);
 }
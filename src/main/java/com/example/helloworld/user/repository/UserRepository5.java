@@ -1,13 +1,40 @@
 package com.example.helloworld.user.repository;
 
 import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository5 extends JpaRepository<User3, String> {
+public interface UserRepository5 extends JpaRepository<User3, String>, UserPatchRepository {
     Optional<User3> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 목록 조회용 DTO projection: 필요한 컬럼만 읽고 엔티티를 만들지 않음 (영속성 컨텍스트, 스냅샷 없음)
+    // createdAt 은 mybatis 의 FindAllUserDto 와 같은 문자열로 변환
+    @Query("select new com.example.helloworld.user.dto.FindAllUserDto(u.userId, u.email, cast(u.createdAt as String))"
+            + " from User3 u order by u.createdAt desc, u.userId desc")
+    List<FindAllUserDto> findAllUser();
+
+    // Slice 는 count 쿼리 없이 size + 1 건을 읽어 다음 페이지 유무만 판단
+    @Query("select new com.example.helloworld.user.dto.FindAllUserDto(u.userId, u.email, cast(u.createdAt as String))"
+            + " from User3 u order by u.createdAt desc, u.userId desc")
+    Slice<FindAllUserDto> findUserPage(Pageable pageable);
+
+    // DELETE 한 번 (deleteById 처럼 먼저 읽지 않음), 삭제된 행 수 반환
+    @Modifying
+    @Query("delete from User3 u where u.userId = :userId")
+    int deleteByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Query("delete from User3 u where u.userId = :userId and u.version = :version")
+    int deleteByUserIdAndVersion(@Param("userId") String userId, @Param("version") long version);
 }
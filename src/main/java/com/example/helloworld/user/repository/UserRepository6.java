@@ -0,0 +1,168 @@
+package com.example.helloworld.user.repository;
+
+import com.example.helloworld.common.ReactiveDatabase;
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * v6 reactive 사용자 저장소 (R2DBC, 스레드를 막지 않음)
+ * SQL 은 UserRepository5 와 같은 형태 (목록은 projection, 수정/삭제는 한 문장)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserRepository6 {
+
+    private static final String USER_COLUMNS = "userId, password, name, email, createdAt, version";
+
+    private final ReactiveDatabase database;
+
+    // 최신 가입순 페이지 (offset/limit), 요청한 만큼만 행을 가져옴
+    public Flux<FindAllUserDto> findUserPage(long offset, int limit) {
+        return database.many(connection -> connection
+                .createStatement(database.sql("select userId, email, createdAt from users"
+                        + " order by createdAt desc, userId desc limit ? offset ?"))
+                .bind(0, limit)
+                .bind(1, offset)
+                .execute())
+                .flatMap(result -> result.map(UserRepository6::toListItem));
+    }
+
+    // 전체 조회 스트리밍 (fetchSize 단위로 가져옴)
+    public Flux<FindAllUserDto> streamAllUser() {
+        return database.many(connection -> connection
+                .createStatement("select userId, email, createdAt from users order by createdAt desc, userId desc")
+                .fetchSize(1000)
+                .execute())
+                .flatMap(result -> result.map(UserRepository6::toListItem));
+    }
+
+    public Mono<User3> findById(String userId) {
+        return database.one(connection -> Flux.from(connection
+                        .createStatement(database.sql("select " + USER_COLUMNS + " from users where userId = ?"))
+                        .bind(0, userId)
+                        .execute())
+                .flatMap(result -> result.map(UserRepository6::toUser)));
+    }
+
+    public Mono<Boolean> existsById(String userId) {
+        return database.one(connection -> Flux.from(connection
+                        .createStatement(database.sql("select count(*) from users where userId = ?"))
+                        .bind(0, userId)
+                        .execute())
+                .flatMap(result -> result.map(row -> row.get(0, Long.class) > 0)));
+    }
+
+    // INSERT 한 번 (createdAt, version 은 user 에 채워서 넘김)
+    public Mono<Long> insert(User3 user) {
+        return database.one(connection -> Flux.from(bindUser(insertStatement(connection), user).execute())
+                .flatMap(Result::getRowsUpdated));
+    }
+
+    // 한 트랜잭션, 한 번의 batch 로 INSERT (하나라도 실패하면 전체 rollback)
+    public Mono<Long> insertAll(List<User3> users) {
+        if (users.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return database.inTransaction(connection -> {
+            Statement statement = insertStatement(connection);
+            for (int i = 0; i < users.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                bindUser(statement, users.get(i));
+            }
+            return Flux.from(statement.execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .reduce(0L, Long::sum);
+        });
+    }
+
+    /**
+     * 바뀐 컬럼만 SET 하는 UPDATE 한 번, version 은 1 증가
+     * expectedVersion 이 있으면 그 버전일 때만 수정
+     * @return 수정된 행 수 (0: 없는 유저 또는 버전 불일치)
+     */
+    public Mono<Long> patch(String userId, Long expectedVersion, UserUpdateDto changes) {
+        List<String> columns = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        if (changes.getPassword() != null) {
+            columns.add("password = ?");
+            values.add(changes.getPassword());
+        }
+        if (changes.getName() != null) {
+            columns.add("name = ?");
+            values.add(changes.getName());
+        }
+        if (changes.getEmail() != null) {
+            columns.add("email = ?");
+            values.add(changes.getEmail());
+        }
+        columns.add("version = version + 1");
+        values.add(userId);
+        String sql = "update users set " + String.join(", ", columns) + " where userId = ?";
+        if (expectedVersion != null) {
+            sql += " and version = ?";
+            values.add(expectedVersion);
+        }
+        return update(sql, values);
+    }
+
+    // DELETE 한 번, 삭제된 행 수 반환
+    public Mono<Long> delete(String userId, Long expectedVersion) {
+        return expectedVersion == null
+                ? update("delete from users where userId = ?", List.of(userId))
+                : update("delete from users where userId = ? and version = ?", List.of(userId, expectedVersion));
+    }
+
+    // Helper Method
+    private Mono<Long> update(String sql, List<Object> values) {
+        return database.one(connection -> {
+            Statement statement = connection.createStatement(database.sql(sql));
+            for (int i = 0; i < values.size(); i++) {
+                statement.bind(i, values.get(i));
+            }
+            return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated).reduce(0L, Long::sum);
+        });
+    }
+
+    private Statement insertStatement(Connection connection) {
+        return connection.createStatement(database.sql("insert into users (" + USER_COLUMNS + ") values (?, ?, ?, ?, ?, ?)"));
+    }
+
+    private static Statement bindUser(Statement statement, User3 user) {
+        return statement.bind(0, user.getUserId())
+                .bind(1, user.getPassword())
+                .bind(2, user.getName())
+                .bind(3, user.getEmail())
+                .bind(4, user.getCreatedAt())
+                .bind(5, user.getVersion());
+    }
+
+    private static User3 toUser(Readable row) {
+        User3 user = new User3(row.get("userId", String.class), row.get("password", String.class),
+                row.get("name", String.class), row.get("email", String.class), row.get("createdAt", LocalDateTime.class));
+        user.setVersion(row.get("version", Long.class));
+        return user;
+    }
+
+    // createdAt 은 mybatis/jpa 의 FindAllUserDto 와 같은 문자열 (java.sql.Timestamp 형식)
+    private static FindAllUserDto toListItem(Readable row) {
+        LocalDateTime createdAt = row.get("createdAt", LocalDateTime.class);
+        return new FindAllUserDto(row.get("userId", String.class), row.get("email", String.class),
+                createdAt == null ? null : Timestamp.valueOf(createdAt).toString());
+    }
+}
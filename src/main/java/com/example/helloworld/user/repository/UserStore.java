@@ -0,0 +1,248 @@
+package com.example.helloworld.user.repository;
+
+import com.example.helloworld.user.domain.User;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * DB 없이 동작하는 메모리 기반 사용자 저장소 (v1 api 용)
+ * - userId 로 O(1) 조회, email 보조 인덱스
+ * - 쓰기는 userId 해시 기준 lock striping 으로 서로 다른 사용자끼리 병렬 처리
+ * - 전체 조회는 등록 순서를 유지한 불변 스냅샷을 돌려주며, 변경이 없으면 재사용
+ */
+@Repository
+public class UserStore {
+
+    private static final int STRIPES = 16;
+
+    private final Map<String, Entry> users = new ConcurrentHashMap<>();
+    private final Map<String, String> emailIndex = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+
+    private final Lock[] stripes = new Lock[STRIPES];
+    // 쓰기끼리는 공유(read lock), 스냅샷 생성만 배타(write lock)로 잡아 일관된 스냅샷 보장
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
+
+    public UserStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 모든 유저 조회 (등록/수정 순서)
+     */
+    public List<User> findAll() {
+        Snapshot current = snapshot;
+        if (current.version() == version.get()) {
+            return current.users();
+        }
+
+        Lock lock = snapshotLock.writeLock();
+        lock.lock();
+        try {
+            long v = version.get();
+            if (snapshot.version() != v) {
+                List<User> list = users.values().stream()
+                        .sorted(Comparator.comparingLong(Entry::seq))
+                        .map(Entry::user)
+                        .toList();
+                snapshot = new Snapshot(v, list);
+            }
+            return snapshot.users();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<User> findById(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        Entry entry = users.get(userId);
+        return entry == null ? Optional.empty() : Optional.of(entry.user());
+    }
+
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        String userId = emailIndex.get(email);
+        return userId == null ? Optional.empty() : findById(userId);
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    /**
+     * 유저 저장 (같은 userId 가 있으면 덮어씀)
+     */
+    public User save(User user) {
+        String userId = user.getUserId();
+        if (userId == null) {
+            throw new IllegalArgumentException("userId is required");
+        }
+        write(userId, () -> {
+            put(user);
+            return user;
+        });
+        return user;
+    }
+
+    /**
+     * 기존 유저를 새 정보로 교체 (userId 변경 포함)
+     * 대상이 없으면 empty
+     */
+    public Optional<User> replace(String userId, User user) {
+        String newUserId = user.getUserId();
+        if (newUserId == null || newUserId.equals(userId)) {
+            user.setUserId(userId);
+            return write(userId, () -> {
+                if (!users.containsKey(userId)) {
+                    return Optional.empty();
+                }
+                put(user);
+                return Optional.of(user);
+            });
+        }
+
+        return write(userId, newUserId, () -> {
+            if (!users.containsKey(userId)) {
+                return Optional.empty();
+            }
+            remove(userId);
+            put(user);
+            return Optional.of(user);
+        });
+    }
+
+    /**
+     * 기존 유저의 일부 정보 수정
+     * updater 는 기존 값의 복사본을 받으므로 다른 스레드에 반쯤 바뀐 객체가 보이지 않음
+     * 대상이 없으면 empty
+     */
+    public Optional<User> update(String userId, UnaryOperator<User> updater) {
+        return write(userId, () -> {
+            Entry entry = users.get(userId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            User updated = updater.apply(copyOf(entry.user()));
+            updated.setUserId(userId);
+            put(updated);
+            return Optional.of(updated);
+        });
+    }
+
+    /**
+     * 유저 삭제
+     */
+    public boolean delete(String userId) {
+        if (userId == null) {
+            return false;
+        }
+        return write(userId, () -> remove(userId));
+    }
+
+    // Helper Method
+    private void put(User user) {
+        Entry old = users.put(user.getUserId(), new Entry(sequence.incrementAndGet(), user));
+        if (old != null) {
+            unindex(old.user());
+        }
+        if (user.getEmail() != null) {
+            emailIndex.put(user.getEmail(), user.getUserId());
+        }
+    }
+
+    private boolean remove(String userId) {
+        Entry old = users.remove(userId);
+        if (old == null) {
+            return false;
+        }
+        unindex(old.user());
+        return true;
+    }
+
+    private void unindex(User user) {
+        if (user.getEmail() != null) {
+            emailIndex.remove(user.getEmail(), user.getUserId());
+        }
+    }
+
+    private <T> T write(String userId, WriteAction<T> action) {
+        Lock shared = snapshotLock.readLock();
+        Lock stripe = stripeOf(userId);
+        shared.lock();
+        stripe.lock();
+        try {
+            return action.run();
+        } finally {
+            version.incrementAndGet();
+            stripe.unlock();
+            shared.unlock();
+        }
+    }
+
+    private <T> T write(String userId, String otherUserId, WriteAction<T> action) {
+        int a = indexOf(userId);
+        int b = indexOf(otherUserId);
+        if (a == b) {
+            return write(userId, action);
+        }
+
+        // 교착 방지를 위해 항상 작은 번호의 stripe 부터 잠금
+        Lock first = stripes[Math.min(a, b)];
+        Lock second = stripes[Math.max(a, b)];
+        Lock shared = snapshotLock.readLock();
+        shared.lock();
+        first.lock();
+        second.lock();
+        try {
+            return action.run();
+        } finally {
+            version.incrementAndGet();
+            second.unlock();
+            first.unlock();
+            shared.unlock();
+        }
+    }
+
+    private Lock stripeOf(String userId) {
+        return stripes[indexOf(userId)];
+    }
+
+    private int indexOf(String userId) {
+        return (userId.hashCode() & 0x7fffffff) % STRIPES;
+    }
+
+    private User copyOf(User user) {
+        return new User(user.getUserId(), user.getPassword(), user.getName(), user.getEmail(), user.getCreatedAt());
+    }
+
+    @FunctionalInterface
+    private interface WriteAction<T> {
+        T run();
+    }
+
+    private record Entry(long seq, User user) {
+    }
+
+    private record Snapshot(long version, List<User> users) {
+    }
+}
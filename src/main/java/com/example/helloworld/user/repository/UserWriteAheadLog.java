@@ -0,0 +1,240 @@
+package com.example.helloworld.user.repository;
+
+import com.example.helloworld.user.domain.User3;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 사용자 등록 write-ahead log (UserWriteBehind 에서 사용)
+ * - 파일: dir/users-{첫 lsn}.wal, segmentBytes 를 넘으면 다음 파일로 넘어감
+ * - 레코드: [payload 길이 int][payload crc32 int][userId, password, name, email (UTF)]
+ * - append 는 여러 레코드를 한 번에 쓰고 fsync 한 번 (group commit)
+ * - replay 는 마지막 파일의 잘리거나 깨진 꼬리(fsync 전에 죽은 쓰기)를 잘라내고 그 앞까지만 돌려줌
+ * lsn 은 파일에 쓰지 않고 파일 이름의 첫 lsn 부터 레코드 순서대로 매김
+ */
+@Slf4j
+public final class UserWriteAheadLog implements Closeable {
+
+    private static final String PREFIX = "users-";
+    private static final String SUFFIX = ".wal";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final Path dir;
+    private final long segmentBytes;
+    // 첫 lsn -> 파일
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+
+    private FileChannel active;
+    private long activeBytes;
+    private long nextLsn = 1;
+
+    public UserWriteAheadLog(Path dir, long segmentBytes) throws IOException {
+        this.dir = Files.createDirectories(dir);
+        this.segmentBytes = segmentBytes;
+    }
+
+    public record Entry(long lsn, User3 user) {
+    }
+
+    private record Record(User3 user, int bytes) {
+    }
+
+    /**
+     * 남아 있는 레코드를 순서대로 읽고, 이어서 쓸 수 있게 마지막 파일을 엶
+     */
+    public synchronized List<Entry> replay() throws IOException {
+        segments.clear();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(file -> file.getFileName().toString().startsWith(PREFIX)
+                            && file.getFileName().toString().endsWith(SUFFIX))
+                    .forEach(file -> segments.put(firstLsnOf(file), file));
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            long lsn = segment.getKey();
+            long valid = 0;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment.getValue())))) {
+                Record record;
+                while ((record = read(in)) != null) {
+                    entries.add(new Entry(lsn++, record.user()));
+                    valid += record.bytes();
+                }
+            }
+            nextLsn = lsn;
+
+            long size = Files.size(segment.getValue());
+            if (valid < size) {
+                if (segment.getKey().equals(segments.lastKey())) {
+                    log.warn("WAL 끝의 불완전한 레코드 제거 : {} ({} -> {} bytes)", segment.getValue(), size, valid);
+                    try (FileChannel channel = FileChannel.open(segment.getValue(), StandardOpenOption.WRITE)) {
+                        channel.truncate(valid);
+                        channel.force(true);
+                    }
+                } else {
+                    log.error("WAL 중간 파일이 깨짐, 이후 레코드는 건너뜀 : {} ({} / {} bytes)", segment.getValue(), valid, size);
+                }
+            }
+        }
+
+        if (segments.isEmpty()) {
+            roll();
+        } else {
+            openActive(segments.lastEntry().getValue());
+        }
+        return entries;
+    }
+
+    /**
+     * 레코드들을 쓰고 fsync, 첫 레코드의 lsn 반환
+     */
+    public long append(List<User3> users) throws IOException {
+        List<byte[]> records = new ArrayList<>(users.size());
+        for (User3 user : users) {
+            records.add(encode(user));
+        }
+        return appendEncoded(records);
+    }
+
+    /**
+     * encode 로 만든 레코드들을 쓰고 fsync, 첫 레코드의 lsn 반환
+     */
+    public synchronized long appendEncoded(List<byte[]> records) throws IOException {
+        int size = records.stream().mapToInt(record -> record.length).sum();
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        records.forEach(buffer::put);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            active.write(buffer);
+        }
+        active.force(false);
+        activeBytes += size;
+
+        long first = nextLsn;
+        nextLsn += records.size();
+        if (activeBytes >= segmentBytes) {
+            roll();
+        }
+        return first;
+    }
+
+    /**
+     * drainedUpTo 까지 DB 에 반영됨 - 그 안에 모두 들어가는 파일은 삭제
+     * 전부 반영됐으면 쓰던 파일도 닫고 새 파일로 넘어가 삭제
+     */
+    public synchronized void release(long drainedUpTo) throws IOException {
+        if (drainedUpTo >= nextLsn - 1 && activeBytes > 0) {
+            roll();
+        }
+        while (segments.size() > 1) {
+            Map.Entry<Long, Path> oldest = segments.firstEntry();
+            long lastLsn = segments.higherKey(oldest.getKey()) - 1;
+            if (lastLsn > drainedUpTo) {
+                break;
+            }
+            Files.deleteIfExists(oldest.getValue());
+            segments.remove(oldest.getKey());
+        }
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (active != null) {
+            active.close();
+            active = null;
+        }
+    }
+
+    /**
+     * 레코드 하나를 [길이][crc32][필드] 로 인코딩
+     * @throws java.io.UTFDataFormatException 필드 하나가 UTF-8 로 64KB 를 넘음
+     */
+    public static byte[] encode(User3 user) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(72);
+        write(new DataOutputStream(bytes), user);
+        return bytes.toByteArray();
+    }
+
+    // Helper Method
+    private void roll() throws IOException {
+        close();
+        Path file = dir.resolve(PREFIX + String.format("%016d", nextLsn) + SUFFIX);
+        segments.put(nextLsn, file);
+        openActive(file);
+    }
+
+    private void openActive(Path file) throws IOException {
+        active = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        activeBytes = active.size();
+        active.position(activeBytes);
+    }
+
+    private static long firstLsnOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static void write(DataOutputStream out, User3 user) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        DataOutputStream fields = new DataOutputStream(payload);
+        fields.writeUTF(user.getUserId());
+        fields.writeUTF(user.getPassword());
+        fields.writeUTF(user.getName());
+        fields.writeUTF(user.getEmail());
+
+        byte[] bytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        out.writeInt(bytes.length);
+        out.writeInt((int) crc.getValue());
+        out.write(bytes);
+    }
+
+    // 끝이거나 잘리거나 깨진 레코드면 null
+    private static Record read(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length <= 0 || length > 1 << 20) {
+                return null;
+            }
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length < length) {
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            if ((int) crc.getValue() != checksum) {
+                return null;
+            }
+            DataInputStream fields = new DataInputStream(new ByteArrayInputStream(bytes));
+            User3 user = new User3(fields.readUTF(), fields.readUTF(), fields.readUTF(), fields.readUTF(), null);
+            return new Record(user, HEADER_BYTES + length);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+}
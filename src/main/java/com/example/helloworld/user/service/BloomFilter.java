@@ -0,0 +1,122 @@
+package com.example.helloworld.user.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 Bloom filter
+ * mightContain 이 false 면 넣은 적이 없는 값 (확실), true 면 넣었거나 오탐
+ * - 비트 수/해시 수는 예상 건수와 목표 오탐률로 결정, 예상 건수를 넘으면 오탐률이 올라감
+ * - 해시 하나(64bit)에서 두 값을 만들어 k 개 위치를 계산 (Kirsch-Mitzenmacher)
+ * - 여러 스레드가 동시에 넣고 조회해도 됨 (비트는 CAS 로 세움), 삭제는 지원하지 않음
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    // 1 인 비트 수 (예상 오탐률 계산용)
+    private final LongAdder bitCount = new LongAdder();
+
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < fpp < 1 이어야 합니다");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = wordCount * 64L;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 값을 넣음 (새로 세운 비트가 있으면 true)
+     */
+    public boolean put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        boolean changed = false;
+        long combined = hash1;
+        for (int i = 0; i < hashes; i++) {
+            combined += hash2;
+            if (set(Long.remainderUnsigned(combined, bits))) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        long combined = hash1;
+        for (int i = 0; i < hashes; i++) {
+            combined += hash2;
+            long index = Long.remainderUnsigned(combined, bits);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 지금 채워진 비트 비율로 계산한 오탐률 ((1 인 비트 / 전체 비트) ^ 해시 수)
+     */
+    public double expectedFpp() {
+        return Math.pow((double) bitCount.sum() / bits, hashes);
+    }
+
+    /**
+     * 채워진 비트 비율로 추정한 들어간 값의 수
+     */
+    public long approximateCount() {
+        double filled = (double) bitCount.sum() / bits;
+        if (filled >= 1) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-(double) bits / hashes * Math.log1p(-filled));
+    }
+
+    public long bitSize() {
+        return bits;
+    }
+
+    public int hashCount() {
+        return hashes;
+    }
+
+    // Helper Method
+    private boolean set(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        bitCount.increment();
+        return true;
+    }
+
+    // FNV-1a (UTF-16 문자 단위) + murmur3 finalizer 로 비트를 고르게 섞음
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93FE1A85EC3L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
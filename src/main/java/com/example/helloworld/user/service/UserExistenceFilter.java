@@ -0,0 +1,278 @@
+package com.example.helloworld.user.service;
+
+import com.example.helloworld.common.DbBulkhead;
+import com.example.helloworld.common.ReplicaDataSource;
+import com.example.helloworld.user.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * users.userId / users.email 중복 확인용 Bloom filter
+ * - filter 에 있으면(또는 오탐이면) DB 에서 확인, 없으면 DB 조회 없이 없음 (user.exists-filter.authoritative, 기본 true)
+ * - 전제: users 에 쓰는 것은 이 인스턴스뿐 (등록/이메일 변경이 모두 added 로 들어옴)
+ *   이 인스턴스를 거치지 않은 등록(다른 인스턴스, 직접 SQL)은 다음 재적재까지 filter 에 없으므로
+ *   그런 환경에서는 authoritative=false 로 둠 (DB 로 확인하고 filter 가 놓친 값은 추가)
+ * - 시작할 때 아이디/이메일만 스트리밍으로 읽어 적재, 등록/이메일 변경 때마다 추가
+ * - 삭제는 반영하지 않음 (지운 값은 DB 조회로 넘어갈 뿐 결과는 맞음)
+ * - 다른 인스턴스에서 등록한 값과 지운 값은 rebuild-interval 마다 다시 읽어 반영
+ * 최종 중복 판단은 DB 제약조건이 함 (이 filter 는 등록 전 확인/가용성 조회의 쿼리를 줄이는 용도)
+ */
+@Slf4j
+@Component
+public class UserExistenceFilter implements MeterBinder {
+
+    public enum Field { USER_ID, EMAIL }
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final DbBulkhead dbBulkhead;
+    private final long expectedUsers;
+    private final double fpp;
+    private final Duration rebuildInterval;
+    private final boolean authoritative;
+
+    // 적재 전이면 null (모든 확인을 DB 로)
+    private volatile Filters filters;
+    // 다시 적재하는 동안 들어온 등록은 새 filter 에도 넣음
+    private volatile Filters building;
+    private final AtomicLong loaded = new AtomicLong();
+    private final Stats userIdStats = new Stats();
+    private final Stats emailStats = new Stats();
+
+    private ScheduledExecutorService rebuilder;
+
+    public UserExistenceFilter(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            DbBulkhead dbBulkhead,
+            @Value("${user.exists-filter.expected-users:1000000}") long expectedUsers,
+            @Value("${user.exists-filter.fpp:0.01}") double fpp,
+            @Value("${user.exists-filter.rebuild-interval:1h}") Duration rebuildInterval,
+            @Value("${user.exists-filter.authoritative:true}") boolean authoritative) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.dbBulkhead = dbBulkhead;
+        this.expectedUsers = expectedUsers;
+        this.fpp = fpp;
+        this.rebuildInterval = rebuildInterval;
+        this.authoritative = authoritative;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        if (!rebuildInterval.isZero() && rebuilder == null) {
+            rebuilder = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("user-exists-filter")
+                    .daemon(true)
+                    .factory());
+            rebuilder.scheduleWithFixedDelay(this::rebuildQuietly,
+                    rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * DB 에서 아이디/이메일을 다시 읽어 filter 교체
+     * 크기는 예상 사용자 수와 직전 적재 건수의 2배 중 큰 쪽
+     */
+    public synchronized void rebuild() {
+        long capacity = Math.max(expectedUsers, loaded.get() * 2);
+        Filters rebuilt = new Filters(new BloomFilter(capacity, fpp), new BloomFilter(capacity, fpp));
+        building = rebuilt;
+        long count;
+        try {
+            // 커밋된 등록은 바로 added 로 들어오므로 복제 지연이 있는 replica 가 아닌 primary 에서 읽음
+            count = ReplicaDataSource.onPrimary(() -> {
+                LongAdder rows = new LongAdder();
+                // 요청과 같은 풀을 쓰므로 permit 을 잡고 읽음 (못 잡으면 BulkheadFullException, 다음 주기에 다시)
+                dbBulkhead.supply(() -> readOnlyTransaction.execute(status -> {
+                    userRepository.streamUserKeys(context -> {
+                        rebuilt.userIds.put(context.getResultObject().getUserId());
+                        rebuilt.emails.put(context.getResultObject().getEmail());
+                        rows.increment();
+                    });
+                    return null;
+                }));
+                return rows.sum();
+            });
+            filters = rebuilt;
+        } finally {
+            // added 는 building -> filters 순으로 읽으므로 교체한 뒤에 비워야 빠지는 등록이 없음
+            building = null;
+        }
+        loaded.set(count);
+        log.info("user 중복 확인 filter 적재 : {}명, 크기 {}bit x {}개 해시, 예상 오탐률 {}",
+                count, rebuilt.userIds.bitSize(), rebuilt.userIds.hashCount(), String.format("%.5f", rebuilt.userIds.expectedFpp()));
+
+        // 예상보다 많으면 한 번 더 키워서 적재 (목표 오탐률 유지)
+        if (count > capacity) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 등록/이메일 변경 후 호출 (null 은 건너뜀)
+     */
+    public void added(String userId, String email) {
+        Filters next = building;
+        Filters current = filters;
+        put(current, userId, email);
+        if (next != current) {
+            put(next, userId, email);
+        }
+    }
+
+    /**
+     * query(DB 조회) 결과 (authoritative 이면 filter 에 없을 때 조회 없이 false)
+     */
+    public boolean userIdExists(String userId, Predicate<String> query) {
+        return exists(Field.USER_ID, userId, query);
+    }
+
+    public boolean emailExists(String email, Predicate<String> query) {
+        return exists(Field.EMAIL, email, query);
+    }
+
+    /**
+     * 관측된 오탐률 = filter 는 있다고 했지만 DB 에 없던 수 / DB 에 없던 값 전체
+     */
+    public double falsePositiveRate(Field field) {
+        return statsOf(field).falsePositiveRate();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, Field.USER_ID, userIdStats);
+        bind(registry, Field.EMAIL, emailStats);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    // Helper Method
+    private boolean exists(Field field, String value, Predicate<String> query) {
+        Stats stats = statsOf(field);
+        Filters current = filters;
+        if (current != null && !current.of(field).mightContain(value)) {
+            if (authoritative) {
+                stats.absent.increment();
+                return false;
+            }
+            // 이 인스턴스를 거치지 않은 등록일 수 있으므로 DB 로 확인
+            boolean found = query.test(value);
+            if (found) {
+                stats.falseNegative.increment();
+                put(current, field == Field.USER_ID ? value : null, field == Field.EMAIL ? value : null);
+            } else {
+                stats.absent.increment();
+            }
+            return found;
+        }
+
+        boolean found = query.test(value);
+        if (current == null) {
+            stats.unfiltered.increment();
+        } else if (found) {
+            stats.present.increment();
+        } else {
+            stats.falsePositive.increment();
+        }
+        return found;
+    }
+
+    private void put(Filters target, String userId, String email) {
+        if (target == null) {
+            return;
+        }
+        if (userId != null) {
+            target.userIds.put(userId);
+        }
+        if (email != null) {
+            target.emails.put(email);
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("user 중복 확인 filter 재적재 실패, 기존 filter 유지", e);
+        }
+    }
+
+    private Stats statsOf(Field field) {
+        return field == Field.USER_ID ? userIdStats : emailStats;
+    }
+
+    private void bind(MeterRegistry registry, Field field, Stats stats) {
+        String tag = field == Field.USER_ID ? "userId" : "email";
+        result(registry, tag, "absent", stats.absent);
+        result(registry, tag, "present", stats.present);
+        result(registry, tag, "false_positive", stats.falsePositive);
+        result(registry, tag, "false_negative", stats.falseNegative);
+        result(registry, tag, "unfiltered", stats.unfiltered);
+        Gauge.builder("user.exists-filter.false-positive-rate", stats, Stats::falsePositiveRate)
+                .description("관측된 오탐률 (filter 는 있다고 했지만 DB 에 없던 비율)")
+                .tag("field", tag)
+                .register(registry);
+        Gauge.builder("user.exists-filter.expected-fpp", this, f -> f.filters == null ? 1 : f.filters.of(field).expectedFpp())
+                .description("채워진 비트 비율로 계산한 예상 오탐률")
+                .tag("field", tag)
+                .register(registry);
+        Gauge.builder("user.exists-filter.size", this, f -> f.filters == null ? 0 : f.filters.of(field).approximateCount())
+                .description("filter 에 들어간 값의 추정 개수")
+                .tag("field", tag)
+                .register(registry);
+    }
+
+    private void result(MeterRegistry registry, String field, String result, LongAdder counter) {
+        FunctionCounter.builder("user.exists-filter.checks", counter, LongAdder::sum)
+                .description("중복 확인 결과 (absent: filter/DB 모두 없음, present/false_positive: filter 에 있음,"
+                        + " false_negative: filter 에 없지만 DB 에 있음, unfiltered: 적재 전)")
+                .tag("field", field)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record Filters(BloomFilter userIds, BloomFilter emails) {
+        private BloomFilter of(Field field) {
+            return field == Field.USER_ID ? userIds : emails;
+        }
+    }
+
+    private static final class Stats {
+        private final LongAdder absent = new LongAdder();
+        private final LongAdder present = new LongAdder();
+        private final LongAdder falsePositive = new LongAdder();
+        private final LongAdder falseNegative = new LongAdder();
+        private final LongAdder unfiltered = new LongAdder();
+
+        private double falsePositiveRate() {
+            long negatives = absent.sum() + falsePositive.sum();
+            return negatives == 0 ? 0 : (double) falsePositive.sum() / negatives;
+        }
+    }
+}
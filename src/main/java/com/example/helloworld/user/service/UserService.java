@@ -2,15 +2,25 @@ package com.example.helloworld.user.service;
 
 import com.example.helloworld.user.domain.User;
 import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserBulkResultDto;
 import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.dto.UserLookupDto;
+import com.example.helloworld.user.dto.UserPageDto;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public interface UserService {
 
     ArrayList<FindAllUserDto> readAllUser();
+    UserPageDto readUserPage(String cursor, int size);
+    void exportAllUser(Consumer<FindAllUserDto> consumer);
     User readByUserId(String userId);
+    // 여러 아이디 한 번에 조회 (요청 순서 유지, 없는 아이디는 missing)
+    UserLookupDto readByUserIds(List<String> userIds);
     boolean newUser(UserCreateDto user);
+    UserBulkResultDto newUsers(List<UserCreateDto> users);
 }
@@ -1,6 +1,11 @@
 package com.example.helloworld.user.service;
 
 import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserAvailabilityDto;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import com.example.helloworld.user.dto.UserWriteResult;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -9,7 +14,16 @@ import java.util.Optional;
 @Service
 public interface UserService5 {
 
-    List<User3> readAllUser();
+    List<FindAllUserDto> readAllUser();
+    // page 는 0 부터, size 가 0 이하이면 기본 크기
+    Slice<FindAllUserDto> readUserPage(int page, int size);
     Optional<User3> readByUserId(String userId);
     User3 newUser(User3 user);
+    // 한 트랜잭션으로 일괄 등록 (하나라도 실패하면 전체 롤백), 등록 건수 반환
+    int newUsers(List<User3> users);
+    // expectedVersion 이 null 이면 버전 확인 없이 수정/삭제
+    UserWriteResult updateUser(String userId, Long expectedVersion, UserUpdateDto changes);
+    UserWriteResult deleteUser(String userId, Long expectedVersion);
+    // 아이디/이메일 사용 가능 여부 (null 인 항목은 확인하지 않음)
+    UserAvailabilityDto checkAvailability(String userId, String email);
 }
@@ -0,0 +1,29 @@
+package com.example.helloworld.user.service;
+
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import com.example.helloworld.user.dto.UserWriteResult;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// v5 와 같은 기능의 reactive 버전 (R2DBC, 호출 스레드를 막지 않음)
+@Service
+public interface UserService6 {
+
+    // page 는 0 부터, size 가 0 이하이면 기본 크기
+    Mono<Slice<FindAllUserDto>> readUserPage(int page, int size);
+    // 전체 유저를 구독자가 요청한 만큼씩 내보냄 (backpressure)
+    Flux<FindAllUserDto> streamAllUser();
+    Mono<User3> readByUserId(String userId);
+    Mono<User3> newUser(User3 user);
+    // 한 트랜잭션으로 일괄 등록 (하나라도 실패하면 전체 롤백), 등록 건수 반환
+    Mono<Integer> newUsers(List<User3> users);
+    // expectedVersion 이 null 이면 버전 확인 없이 수정/삭제
+    Mono<UserWriteResult> updateUser(String userId, Long expectedVersion, UserUpdateDto changes);
+    Mono<UserWriteResult> deleteUser(String userId, Long expectedVersion);
+}
@@ -1,34 +1,268 @@
 package com.example.helloworld.user.service;
 
+import com.example.helloworld.common.DbBulkhead;
+import com.example.helloworld.common.ReadYourWrites;
+import com.example.helloworld.common.ReplicaDataSource;
 import com.example.helloworld.user.domain.User;
 import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserBulkResultDto;
 import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.dto.UserCursor;
+import com.example.helloworld.user.dto.UserLookupDto;
+import com.example.helloworld.user.dto.UserPageDto;
+import com.example.helloworld.user.repository.UserBatchRepository;
 import com.example.helloworld.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service // IoC 관리 대상 지정
-@RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    public static final String USER_CACHE = "users";
+
     private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final ReadYourWrites readYourWrites;
+    private final UserExistenceFilter userExistenceFilter;
+    // v5 write-behind 로 등록 대기 중인 아이디/이메일과 겹치지 않게 함
+    private final UserWriteBehind userWriteBehind;
+    // 여러 아이디 조회에서 단건 조회 캐시(users)를 같이 씀 (캐시가 꺼져 있으면 null)
+    private final Cache userCache;
+    // 단건 조회는 single-flight 를 실행하는 호출만 트랜잭션을 엶 (기다리는 호출은 커넥션/permit 을 잡지 않음)
+    private final TransactionTemplate readOnlyTransaction;
+    // 직접 연 트랜잭션은 aspect 를 거치지 않으므로 permit 을 먼저 잡고 엶
+    private final DbBulkhead dbBulkhead;
+    // 캐시 miss 시 같은 userId 동시 조회는 쿼리 한 번으로 합침
+    private final SingleFlight<String, User> userLookups = new SingleFlight<>();
+
+    @Value("${user.page.default-size:20}")
+    private int defaultPageSize = 20;
+
+    @Value("${user.page.max-size:1000}")
+    private int maxPageSize = 1000;
+
+    @Value("${user.batch.chunk-size:1000}")
+    private int batchChunkSize = 1000;
+
+    @Value("${user.lookup.max-ids:1000}")
+    private int lookupMaxIds = 1000;
 
+    @Value("${user.lookup.chunk-size:500}")
+    private int lookupChunkSize = 500;
+
+    public UserServiceImpl(UserRepository userRepository, UserBatchRepository userBatchRepository,
+                           ReadYourWrites readYourWrites, UserExistenceFilter userExistenceFilter,
+                           UserWriteBehind userWriteBehind, CacheManager cacheManager,
+                           PlatformTransactionManager transactionManager, DbBulkhead dbBulkhead) {
+        this.userRepository = userRepository;
+        this.userBatchRepository = userBatchRepository;
+        this.readYourWrites = readYourWrites;
+        this.userExistenceFilter = userExistenceFilter;
+        this.userWriteBehind = userWriteBehind;
+        this.userCache = cacheManager.getCache(USER_CACHE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.dbBulkhead = dbBulkhead;
+    }
+
+    // readOnly 트랜잭션: replica 라우팅이 켜져 있으면 replica 에서 조회
     @Override
+    @Transactional(readOnly = true)
     public ArrayList<FindAllUserDto> readAllUser() {
-        return (ArrayList<FindAllUserDto>) userRepository.findAllUser();
+        return readYourWrites.readAll(() -> (ArrayList<FindAllUserDto>) userRepository.findAllUser());
+    }
+
+    /**
+     * keyset 페이지 조회
+     * size 가 0 이하이면 기본 크기, 최대 크기를 넘으면 최대 크기로 맞춤
+     * 다음 페이지 유무는 한 건 더 읽어서 판단
+     * @throws IllegalArgumentException 잘못된 커서 토큰
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserPageDto readUserPage(String cursor, int size) {
+        int pageSize = size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        UserCursor after = (cursor == null || cursor.isBlank()) ? null : UserCursor.decode(cursor);
+
+        List<FindAllUserDto> rows = readYourWrites.readAll(() -> userRepository.findUserPage(after, pageSize + 1));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = UserCursor.of(rows.get(pageSize - 1)).encode();
+        }
+
+        return new UserPageDto(rows, nextCursor);
+    }
+
+    /**
+     * 전체 유저를 한 행씩 consumer 로 전달
+     * 읽기 전용 트랜잭션 안에서 실행해야 PostgreSQL 등에서도 fetchSize 단위로 스트리밍됨
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllUser(Consumer<FindAllUserDto> consumer) {
+        userRepository.streamAllUser(context -> consumer.accept(context.getResultObject()));
     }
 
     @Override
+    @Cacheable(cacheNames = USER_CACHE, key = "#userId", unless = "#result == null")
     public User readByUserId(String userId) {
-        return userRepository.findByUserId(userId);
+        // 방금 쓴 유저는 replica 에 아직 없을 수 있으므로 다른 조회와 합치지 않고 primary 에서 조회
+        if (readYourWrites.isRecent(userId)) {
+            return ReplicaDataSource.onPrimary(() -> userRepository.findByUserId(userId));
+        }
+        return userLookups.execute(userId,
+                () -> readOnly(() -> userRepository.findByUserId(userId)));
     }
 
+    /**
+     * 여러 아이디 한 번에 조회
+     * 캐시에 있는 유저는 그대로 쓰고, 없는 아이디만 chunk 단위 where userId in (...) 으로 읽어 캐시에 넣음
+     * 방금 쓴 아이디는 replica 가 아닌 primary 에서 읽음
+     * @throws IllegalArgumentException 아이디 수가 최대치를 넘음
+     */
     @Override
+    public UserLookupDto readByUserIds(List<String> userIds) {
+        Set<String> ids = new LinkedHashSet<>(userIds);
+        ids.remove(null);
+        if (ids.size() > lookupMaxIds) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 아이디는 " + lookupMaxIds + "개까지입니다");
+        }
+
+        Map<String, User> found = new HashMap<>(ids.size() * 2);
+        List<String> misses = new ArrayList<>();
+        List<String> recent = new ArrayList<>();
+        for (String id : ids) {
+            User cached = userCache == null ? null : userCache.get(id, User.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else if (readYourWrites.isRecent(id)) {
+                recent.add(id);
+            } else {
+                misses.add(id);
+            }
+        }
+        load(misses, found);
+        if (!recent.isEmpty()) {
+            ReplicaDataSource.onPrimary(() -> load(recent, found));
+        }
+
+        UserLookupDto result = UserLookupDto.builder().build();
+        for (String id : ids) {
+            User user = found.get(id);
+            if (user == null) {
+                result.getMissing().add(id);
+            } else {
+                result.getUsers().add(user);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = USER_CACHE, key = "#user.userId")
     public boolean newUser(UserCreateDto user) {
-        return userRepository.insertUser(user) > 0;
+        boolean created;
+        try (UserWriteBehind.Reservation reservation = userWriteBehind.reserve(user.getUserId(), user.getEmail())) {
+            created = userRepository.insertUser(user) > 0;
+        }
+        readYourWrites.written(user.getUserId());
+        if (created) {
+            userExistenceFilter.added(user.getUserId(), user.getEmail());
+        }
+        return created;
+    }
+
+    /**
+     * 대량 등록
+     * chunk 단위로 한 번의 JDBC batch 로 보내고, chunk 가 실패하면 그 chunk 만 한 건씩 다시 넣어
+     * 어떤 행이 실패했는지 찾아냄 (정상 데이터는 chunk 당 한 번의 왕복)
+     */
+    @Override
+    @CacheEvict(cacheNames = USER_CACHE, allEntries = true)
+    public UserBulkResultDto newUsers(List<UserCreateDto> users) {
+        UserBulkResultDto result = UserBulkResultDto.builder().total(users.size()).build();
+
+        for (int from = 0; from < users.size(); from += batchChunkSize) {
+            List<UserCreateDto> chunk = users.subList(from, Math.min(from + batchChunkSize, users.size()));
+            try (UserWriteBehind.Reservation reservation = userWriteBehind.reserve(
+                    chunk.stream().map(UserCreateDto::getUserId).toList(),
+                    chunk.stream().map(UserCreateDto::getEmail).toList())) {
+                userBatchRepository.insertUsers(chunk);
+                result.setSucceeded(result.getSucceeded() + chunk.size());
+                chunk.forEach(user -> userExistenceFilter.added(user.getUserId(), user.getEmail()));
+            } catch (DataAccessException e) {
+                log.warn("batch insert 실패, 건별 재시도 : from={}, size={}", from, chunk.size());
+                insertOneByOne(chunk, from, result);
+            }
+        }
+
+        result.setFailed(result.getFailures().size());
+        readYourWrites.writtenAll();
+        return result;
+    }
+
+    // Helper Method
+    // permit -> 커넥션 순서 (@Transactional 메서드와 같은 순서)
+    private <T> T readOnly(Supplier<T> query) {
+        return dbBulkhead.supply(() -> readOnlyTransaction.execute(status -> query.get()));
+    }
+
+    private Map<String, User> load(List<String> ids, Map<String, User> found) {
+        for (int from = 0; from < ids.size(); from += lookupChunkSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + lookupChunkSize, ids.size()));
+            List<User> users = Objects.requireNonNull(readOnly(() -> userRepository.findByUserIds(chunk)));
+            for (User user : users) {
+                found.put(user.getUserId(), user);
+                if (userCache != null) {
+                    userCache.put(user.getUserId(), user);
+                }
+            }
+        }
+        return found;
+    }
+
+    private void insertOneByOne(List<UserCreateDto> chunk, int offset, UserBulkResultDto result) {
+        for (int i = 0; i < chunk.size(); i++) {
+            UserCreateDto user = chunk.get(i);
+            try (UserWriteBehind.Reservation reservation = userWriteBehind.reserve(user.getUserId(), user.getEmail())) {
+                if (userRepository.insertUser(user) > 0) {
+                    result.setSucceeded(result.getSucceeded() + 1);
+                    userExistenceFilter.added(user.getUserId(), user.getEmail());
+                    continue;
+                }
+                result.getFailures().add(new UserBulkResultDto.Failure(offset + i, user.getUserId(), "등록 실패"));
+            } catch (DuplicateKeyException e) {
+                result.getFailures().add(new UserBulkResultDto.Failure(offset + i, user.getUserId(), "이미 존재하는 아이디입니다"));
+            } catch (DataIntegrityViolationException e) {
+                result.getFailures().add(new UserBulkResultDto.Failure(offset + i, user.getUserId(), "입력값이 올바르지 않습니다"));
+            } catch (DataAccessException e) {
+                log.warn("insert 실패 : userId={}", user.getUserId(), e);
+                result.getFailures().add(new UserBulkResultDto.Failure(offset + i, user.getUserId(), "등록 실패"));
+            }
+        }
     }
 }
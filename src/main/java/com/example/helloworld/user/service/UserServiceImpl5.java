@@ -1,11 +1,28 @@
 package com.example.helloworld.user.service;
 
+import com.example.helloworld.common.ReadYourWrites;
+import com.example.helloworld.common.ReplicaDataSource;
 import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserAvailabilityDto;
+import com.example.helloworld.user.dto.UserCacheDto;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import com.example.helloworld.user.dto.UserWriteResult;
 import com.example.helloworld.user.repository.UserRepository5;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,20 +31,179 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserServiceImpl5 implements UserService5 {
 
+    public static final String USER_CACHE = "users5";
+
     private final UserRepository5 userRepository;
+    private final EntityManager entityManager;
+    private final ReadYourWrites readYourWrites;
+    private final UserWriteBehind userWriteBehind;
+    private final UserExistenceFilter userExistenceFilter;
+    private final CacheManager cacheManager;
+    // 캐시 miss 시 같은 userId 동시 조회는 쿼리 한 번으로 합침 (기다린 호출들이 같은 엔티티를 나눠 갖지 않게 불변 값으로 공유)
+    private final SingleFlight<String, Optional<UserCacheDto>> userLookups = new SingleFlight<>();
+
+    // hibernate.jdbc.batch_size 와 맞춤 (이 단위로 flush 해서 영속성 컨텍스트가 계속 커지지 않게 함)
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchSize = 100;
+
+    @Value("${user.page.default-size:20}")
+    private int defaultPageSize = 20;
 
+    @Value("${user.page.max-size:1000}")
+    private int maxPageSize = 1000;
+
+    // readOnly: hibernate flush 생략, 읽은 엔티티의 dirty checking 스냅샷을 만들지 않음
+    // replica 라우팅이 켜져 있으면 replica 에서 조회
     @Override
-    public List<User3> readAllUser() {
-        return userRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<FindAllUserDto> readAllUser() {
+        return readYourWrites.readAll(userRepository::findAllUser);
     }
 
+    /**
+     * 페이지 조회 (최신 가입순)
+     * size 가 0 이하이면 기본 크기, 최대 크기를 넘으면 최대 크기로 맞춤
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<FindAllUserDto> readUserPage(int page, int size) {
+        int pageSize = size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        return readYourWrites.readAll(() -> userRepository.findUserPage(PageRequest.of(Math.max(page, 0), pageSize)));
+    }
+
+    /**
+     * 유저 단건 조회
+     * 캐시(users5)에는 엔티티 대신 불변 값(UserCacheDto)을 넣고, 호출마다 새 엔티티로 돌려줌
+     * 트랜잭션은 DB 를 읽을 때만 findById 가 엶 (캐시 적중 시 커넥션/permit 을 잡지 않음)
+     */
     @Override
     public Optional<User3> readByUserId(String userId) {
-        return userRepository.findById(userId);
+        // write-behind 로 접수됐지만 아직 DB 에 반영되지 않은 유저 (version 없음, 캐시하지 않음)
+        Optional<User3> pending = userWriteBehind.pending(userId);
+        if (pending.isPresent()) {
+            return pending;
+        }
+        Cache cache = cacheManager.getCache(USER_CACHE);
+        UserCacheDto cached = cache == null ? null : cache.get(userId, UserCacheDto.class);
+        if (cached != null) {
+            return Optional.of(cached.toEntity());
+        }
+
+        // 방금 쓴 유저는 replica 에 아직 없을 수 있으므로 다른 조회와 합치지 않고 primary 에서 조회
+        Optional<UserCacheDto> user = readYourWrites.isRecent(userId)
+                ? ReplicaDataSource.onPrimary(() -> userRepository.findById(userId).map(UserCacheDto::of))
+                : userLookups.execute(userId, () -> userRepository.findById(userId).map(UserCacheDto::of));
+        if (cache != null) {
+            user.ifPresent(value -> cache.put(userId, value));
+        }
+        return user.map(UserCacheDto::toEntity);
     }
 
     @Override
+    @CacheEvict(cacheNames = USER_CACHE, key = "#user.userId")
     public User3 newUser(User3 user) {
-        return userRepository.save(user);
+        User3 saved;
+        // write-behind 로 등록 대기 중인 아이디/이메일이면 DuplicateKeyException
+        try (UserWriteBehind.Reservation reservation = userWriteBehind.reserve(user.getUserId(), user.getEmail())) {
+            saved = userRepository.save(user);
+        }
+        readYourWrites.written(user.getUserId());
+        userExistenceFilter.added(user.getUserId(), user.getEmail());
+        return saved;
+    }
+
+    /**
+     * 대량 등록
+     * User3 가 새 엔티티로 판단되므로 SELECT 없이 persist 되고, insert 는 batchSize 단위 JDBC batch 로 전송
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = USER_CACHE, allEntries = true)
+    public int newUsers(List<User3> users) {
+        // 트랜잭션이 끝날 때 해제
+        try (UserWriteBehind.Reservation reservation = userWriteBehind.reserve(
+                users.stream().map(User3::getUserId).toList(), users.stream().map(User3::getEmail).toList())) {
+            for (int i = 0; i < users.size(); i++) {
+                entityManager.persist(users.get(i));
+                userExistenceFilter.added(users.get(i).getUserId(), users.get(i).getEmail());
+                if ((i + 1) % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        readYourWrites.writtenAll();
+        return users.size();
+    }
+
+    /**
+     * 유저 수정 (바뀐 컬럼만, UPDATE 한 번)
+     * 행을 잠그지 않고 version 비교로 동시 수정을 감지 (낙관적 잠금)
+     * 실패했을 때만 없는 유저인지 버전 불일치인지 한 번 더 확인
+     */
+    @Override
+    @Transactional
+    // 같은 users 테이블을 보는 v2(mybatis) 캐시도 함께 무효화
+    @Caching(evict = {
+            @CacheEvict(cacheNames = USER_CACHE, key = "#userId"),
+            @CacheEvict(cacheNames = UserServiceImpl.USER_CACHE, key = "#userId")
+    })
+    public UserWriteResult updateUser(String userId, Long expectedVersion, UserUpdateDto changes) {
+        // 바꾸려는 이메일이 write-behind 로 등록 대기 중이면 DuplicateKeyException (트랜잭션이 끝날 때 해제)
+        try (UserWriteBehind.Reservation reservation = userWriteBehind.reserve(List.of(), Collections.singletonList(changes.getEmail()))) {
+            if (userRepository.patch(userId, expectedVersion, changes) > 0) {
+                readYourWrites.written(userId);
+                userExistenceFilter.added(null, changes.getEmail());
+                return UserWriteResult.DONE;
+            }
+        }
+        return failureOf(userId, expectedVersion);
+    }
+
+    /**
+     * 유저 삭제 (DELETE 한 번)
+     */
+    @Override
+    @Transactional
+    // 같은 users 테이블을 보는 v2(mybatis) 캐시도 함께 무효화
+    @Caching(evict = {
+            @CacheEvict(cacheNames = USER_CACHE, key = "#userId"),
+            @CacheEvict(cacheNames = UserServiceImpl.USER_CACHE, key = "#userId")
+    })
+    public UserWriteResult deleteUser(String userId, Long expectedVersion) {
+        int deleted = expectedVersion == null
+                ? userRepository.deleteByUserId(userId)
+                : userRepository.deleteByUserIdAndVersion(userId, expectedVersion);
+        if (deleted > 0) {
+            readYourWrites.written(userId);
+            return UserWriteResult.DONE;
+        }
+        return failureOf(userId, expectedVersion);
+    }
+
+    /**
+     * 아이디/이메일 사용 가능 여부 (가입 폼에서 입력할 때마다 호출)
+     * Bloom filter 로 확인 (user.exists-filter.authoritative 가 아니면 filter 에 없어도 DB 에서 확인)
+     * write-behind 로 접수돼 DB 반영을 기다리는 아이디도 사용 중으로 봄
+     */
+    @Override
+    public UserAvailabilityDto checkAvailability(String userId, String email) {
+        UserAvailabilityDto result = UserAvailabilityDto.builder().userId(userId).email(email).build();
+        if (userId != null) {
+            result.setUserIdAvailable(userWriteBehind.pending(userId).isEmpty()
+                    && !userExistenceFilter.userIdExists(userId, userRepository::existsById));
+        }
+        if (email != null) {
+            result.setEmailAvailable(!userExistenceFilter.emailExists(email, userRepository::existsByEmail));
+        }
+        return result;
+    }
+
+    // Helper Method
+    private UserWriteResult failureOf(String userId, Long expectedVersion) {
+        if (expectedVersion == null || !userRepository.existsById(userId)) {
+            return UserWriteResult.NOT_FOUND;
+        }
+        return UserWriteResult.VERSION_MISMATCH;
     }
 }
@@ -0,0 +1,169 @@
+package com.example.helloworld.user.service;
+
+import com.example.helloworld.common.ReadYourWrites;
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import com.example.helloworld.user.dto.UserWriteResult;
+import com.example.helloworld.user.repository.UserRepository6;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service // IoC 관리 대상 지정
+public class UserServiceImpl6 implements UserService6 {
+
+    private final UserRepository6 userRepository;
+    private final ReadYourWrites readYourWrites;
+    private final UserExistenceFilter userExistenceFilter;
+    // v5 write-behind 로 등록 대기 중인 아이디/이메일과 겹치지 않게 함 (INSERT/UPDATE 가 끝날 때까지 잡음)
+    private final UserWriteBehind userWriteBehind;
+    // 같은 테이블을 쓰는 v2(mybatis), v5(jpa) 단건 조회 캐시 - v6 에서 쓰면 비움
+    private final List<Cache> userCaches;
+
+    @Value("${user.page.default-size:20}")
+    private int defaultPageSize = 20;
+
+    @Value("${user.page.max-size:1000}")
+    private int maxPageSize = 1000;
+
+    public UserServiceImpl6(UserRepository6 userRepository, ReadYourWrites readYourWrites,
+                            UserExistenceFilter userExistenceFilter, UserWriteBehind userWriteBehind,
+                            CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.readYourWrites = readYourWrites;
+        this.userExistenceFilter = userExistenceFilter;
+        this.userWriteBehind = userWriteBehind;
+        this.userCaches = Stream.of(UserServiceImpl.USER_CACHE, UserServiceImpl5.USER_CACHE)
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 유저 목록 한 페이지 (count 쿼리 없이 size + 1 건을 읽어 다음 페이지 여부 판단)
+     */
+    @Override
+    public Mono<Slice<FindAllUserDto>> readUserPage(int page, int size) {
+        int pageSize = size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+        return userRepository.findUserPage(pageable.getOffset(), pageSize + 1)
+                .collectList()
+                .map(users -> {
+                    boolean hasNext = users.size() > pageSize;
+                    return new SliceImpl<>(hasNext ? users.subList(0, pageSize) : users, pageable, hasNext);
+                });
+    }
+
+    @Override
+    public Flux<FindAllUserDto> streamAllUser() {
+        return userRepository.streamAllUser();
+    }
+
+    @Override
+    public Mono<User3> readByUserId(String userId) {
+        return userRepository.findById(userId);
+    }
+
+    /**
+     * 유저 등록 (INSERT 한 번)
+     * createdAt, version 은 v5(jpa) 와 같이 애플리케이션에서 채움
+     */
+    @Override
+    public Mono<User3> newUser(User3 user) {
+        prepare(user, LocalDateTime.now());
+        return Mono.using(() -> userWriteBehind.reserve(user.getUserId(), user.getEmail()),
+                        reservation -> userRepository.insert(user),
+                        UserWriteBehind.Reservation::close)
+                .doOnSuccess(inserted -> {
+                    written(user.getUserId());
+                    userExistenceFilter.added(user.getUserId(), user.getEmail());
+                })
+                .thenReturn(user);
+    }
+
+    @Override
+    public Mono<Integer> newUsers(List<User3> users) {
+        LocalDateTime now = LocalDateTime.now();
+        users.forEach(user -> prepare(user, now));
+        return Mono.using(() -> userWriteBehind.reserve(
+                                users.stream().map(User3::getUserId).toList(), users.stream().map(User3::getEmail).toList()),
+                        reservation -> userRepository.insertAll(users),
+                        UserWriteBehind.Reservation::close)
+                .doOnSuccess(inserted -> users.forEach(user -> {
+                    written(user.getUserId());
+                    userExistenceFilter.added(user.getUserId(), user.getEmail());
+                }))
+                .map(Long::intValue);
+    }
+
+    /**
+     * 유저 수정 (바뀐 컬럼만, UPDATE 한 번)
+     * 실패했을 때만 없는 유저인지 버전 불일치인지 한 번 더 확인
+     */
+    @Override
+    public Mono<UserWriteResult> updateUser(String userId, Long expectedVersion, UserUpdateDto changes) {
+        return Mono.using(() -> userWriteBehind.reserve(List.of(), Collections.singletonList(changes.getEmail())),
+                        reservation -> userRepository.patch(userId, expectedVersion, changes),
+                        UserWriteBehind.Reservation::close)
+                .flatMap(updated -> {
+                    if (updated > 0) {
+                        written(userId);
+                        userExistenceFilter.added(null, changes.getEmail());
+                        return Mono.just(UserWriteResult.DONE);
+                    }
+                    return failureOf(userId, expectedVersion);
+                });
+    }
+
+    /**
+     * 유저 삭제 (DELETE 한 번)
+     */
+    @Override
+    public Mono<UserWriteResult> deleteUser(String userId, Long expectedVersion) {
+        return userRepository.delete(userId, expectedVersion)
+                .flatMap(deleted -> {
+                    if (deleted > 0) {
+                        written(userId);
+                        return Mono.just(UserWriteResult.DONE);
+                    }
+                    return failureOf(userId, expectedVersion);
+                });
+    }
+
+    // Helper Method
+    private Mono<UserWriteResult> failureOf(String userId, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.just(UserWriteResult.NOT_FOUND);
+        }
+        return userRepository.existsById(userId)
+                .map(exists -> exists ? UserWriteResult.VERSION_MISMATCH : UserWriteResult.NOT_FOUND);
+    }
+
+    private void prepare(User3 user, LocalDateTime now) {
+        // DB 컬럼 정밀도에 맞춰 응답과 이후 조회 값이 같게 함
+        user.setCreatedAt(now.truncatedTo(ChronoUnit.MICROS));
+        user.setVersion(0L);
+    }
+
+    private void written(String userId) {
+        userCaches.forEach(cache -> cache.evict(userId));
+        readYourWrites.written(userId);
+    }
+}
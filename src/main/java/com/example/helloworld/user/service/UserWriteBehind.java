@@ -0,0 +1,559 @@
+package com.example.helloworld.user.service;
+
+import com.example.helloworld.common.BulkheadFullException;
+import com.example.helloworld.common.DbBulkhead;
+import com.example.helloworld.common.ReadYourWrites;
+import com.example.helloworld.common.ReplicaDataSource;
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.repository.UserRepository5;
+import com.example.helloworld.user.repository.UserWriteAheadLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 등록 write-behind (user.write-behind.enabled=true 일 때 v5 등록에서 사용)
+ * - submit: WAL 에 기록하고 fsync 되면 반환 (동시에 들어온 등록은 fsync 한 번으로 묶음)
+ * - drainer 스레드가 batch-size 단위(또는 flush-interval 마다)로 users 테이블에 JDBC batch insert
+ * - 재시작하면 WAL 에 남은 등록을 다시 넣음 (이미 들어간 등록은 건너뜀)
+ * - DB 반영 대기가 max-pending 을 넘으면 등록을 거절 (503)
+ * DB 반영 전까지 단건 조회는 pending 으로 보이지만, 목록 조회/수정/삭제에는 보이지 않음
+ * DB 반영 중 충돌(다른 경로로 같은 아이디가 먼저 등록 등)로 못 넣은 등록은 WAL 폴더의 rejected.log 에 남김
+ * 등록 대기 중인 아이디/이메일은 다른 경로(v2/v5/v6 등록, 이메일 변경)에서 reserve 로 확인해 같은 값을 쓰지 못하게 함
+ * (같은 JVM 안에서만 막음 - 여러 인스턴스가 같은 DB 에 쓰면 DB 반영 때 rejected.log 로 갈 수 있음)
+ */
+@Slf4j
+@Component
+public class UserWriteBehind implements MeterBinder {
+
+    // 한 번의 fsync 로 묶는 최대 등록 수
+    private static final int MAX_GROUP = 1000;
+
+    private final boolean enabled;
+    private final Path dir;
+    private final long segmentBytes;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final int maxPending;
+    private final Duration submitTimeout;
+
+    private final UserRepository5 userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    // drainer 도 요청과 같은 풀을 쓰므로 permit 을 잡고 트랜잭션을 엶
+    private final DbBulkhead dbBulkhead;
+    private final ReadYourWrites readYourWrites;
+    private final UserExistenceFilter userExistenceFilter;
+
+    private final BlockingQueue<Append> appends = new LinkedBlockingQueue<>();
+    // lsn -> DB 반영 대기 중인 등록 (lsn 순서로 반영)
+    private final ConcurrentSkipListMap<Long, User3> pending = new ConcurrentSkipListMap<>();
+    // userId -> lsn (WAL 기록 전이면 0)
+    private final Map<String, Long> pendingIds = new ConcurrentHashMap<>();
+    // email -> userId (등록 대기 중인 이메일)
+    private final Map<String, String> pendingEmails = new ConcurrentHashMap<>();
+    // 다른 경로에서 쓰는 중인 아이디/이메일 -> 쓰는 수 (reserve)
+    private final Map<String, Integer> writingIds = new ConcurrentHashMap<>();
+    private final Map<String, Integer> writingEmails = new ConcurrentHashMap<>();
+    // WAL 기록 대기 + DB 반영 대기 수 (backpressure 기준)
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Semaphore wakeup = new Semaphore(0);
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private final LongAdder groupCommits = new LongAdder();
+    private final LongAdder drained = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder refused = new LongAdder();
+
+    private UserWriteAheadLog wal;
+    private volatile boolean running;
+    private Thread writer;
+    private Thread drainer;
+
+    public UserWriteBehind(
+            UserRepository5 userRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            DbBulkhead dbBulkhead,
+            ReadYourWrites readYourWrites,
+            UserExistenceFilter userExistenceFilter,
+            @Value("${user.write-behind.enabled:false}") boolean enabled,
+            @Value("${user.write-behind.dir:${java.io.tmpdir}/helloworld/user-wal}") Path dir,
+            @Value("${user.write-behind.segment-size:4MB}") DataSize segmentSize,
+            @Value("${user.write-behind.batch-size:100}") int batchSize,
+            @Value("${user.write-behind.flush-interval:200ms}") Duration flushInterval,
+            @Value("${user.write-behind.max-pending:10000}") int maxPending,
+            @Value("${user.write-behind.submit-timeout:5s}") Duration submitTimeout) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.dbBulkhead = dbBulkhead;
+        this.readYourWrites = readYourWrites;
+        this.userExistenceFilter = userExistenceFilter;
+        this.enabled = enabled;
+        this.dir = dir;
+        this.segmentBytes = segmentSize.toBytes();
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxPending = maxPending;
+        this.submitTimeout = submitTimeout;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * WAL 을 열어 남은 등록을 대기열에 올리고 writer/drainer 스레드 시작
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        wal = new UserWriteAheadLog(dir, segmentBytes);
+        for (UserWriteAheadLog.Entry entry : wal.replay()) {
+            pending.put(entry.lsn(), entry.user());
+            pendingIds.put(entry.user().getUserId(), entry.lsn());
+            pendingEmails.put(entry.user().getEmail(), entry.user().getUserId());
+            inFlight.incrementAndGet();
+            userExistenceFilter.added(entry.user().getUserId(), entry.user().getEmail());
+        }
+        if (!pending.isEmpty()) {
+            log.info("user WAL 재적용 대기 : {}건", pending.size());
+        }
+
+        running = true;
+        writer = Thread.ofPlatform().name("user-wal-writer").daemon(true).start(this::writeLoop);
+        drainer = Thread.ofPlatform().name("user-wal-drainer").daemon(true).start(this::drainLoop);
+        wakeup.release();
+    }
+
+    /**
+     * 등록을 WAL 에 기록 (fsync 후 반환, DB 반영은 나중에)
+     * @throws IllegalArgumentException 아이디/비밀번호/이름/이메일 중 빈 값이나 컬럼 길이를 넘는 값
+     * @throws DuplicateKeyException 이미 있거나 등록 대기 중인(다른 경로에서 쓰는 중인) 아이디/이메일
+     * @throws BulkheadFullException DB 반영 대기가 max-pending 을 넘음, submit-timeout 안에 WAL 에 기록하지 못함
+     */
+    public void submit(User3 user) {
+        // WAL 은 빈 값을 기록할 수 없음 (DB 컬럼도 not null)
+        if (isBlank(user.getUserId()) || isBlank(user.getPassword()) || isBlank(user.getName()) || isBlank(user.getEmail())) {
+            throw new IllegalArgumentException("아이디/비밀번호/이름/이메일은 필수입니다");
+        }
+        // 202 로 받은 뒤 DB 에서 거절되면 rejected.log 로만 남으므로 컬럼 길이는 미리 확인
+        if (tooLong(user.getUserId(), User3.USER_ID_LENGTH) || tooLong(user.getPassword(), User3.PASSWORD_LENGTH)
+                || tooLong(user.getName(), User3.NAME_LENGTH) || tooLong(user.getEmail(), User3.EMAIL_LENGTH)) {
+            throw new IllegalArgumentException("아이디/비밀번호/이름/이메일 길이가 너무 깁니다");
+        }
+        if (!running) {
+            throw new IllegalStateException("write-behind 가 동작 중이 아닙니다");
+        }
+        if (inFlight.incrementAndGet() > maxPending) {
+            inFlight.decrementAndGet();
+            refused.increment();
+            throw new BulkheadFullException("사용자 등록 대기 한도 초과");
+        }
+
+        String userId = user.getUserId();
+        String email = user.getEmail();
+        if (pendingIds.putIfAbsent(userId, 0L) != null) {
+            inFlight.decrementAndGet();
+            throw new DuplicateKeyException("이미 등록 대기 중인 아이디입니다 : " + userId);
+        }
+        if (pendingEmails.putIfAbsent(email, userId) != null) {
+            release(0L, userId, email);
+            throw new DuplicateKeyException("이미 등록 대기 중인 이메일입니다 : " + email);
+        }
+        // 예약 후 확인하므로 reserve 한 경로와 동시에 들어와도 둘 중 하나는 충돌을 봄
+        // 쓰기 판단이므로 replica 가 아닌 primary 에서 확인
+        if (writingIds.containsKey(userId) || writingEmails.containsKey(email)
+                || ReplicaDataSource.onPrimary(() -> userExistenceFilter.userIdExists(userId, userRepository::existsById)
+                || userExistenceFilter.emailExists(email, userRepository::existsByEmail))) {
+            release(0L, userId, email);
+            throw new DuplicateKeyException("이미 존재하는 아이디/이메일입니다 : " + userId);
+        }
+
+        Append append = new Append(copyOf(user), new CompletableFuture<>());
+        appends.add(append);
+        try {
+            append.written().get(submitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // 이후에 기록되면 DB 에도 반영됨 (응답만 실패)
+            throw new BulkheadFullException("사용자 등록 WAL 기록 지연");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException("사용자 등록 WAL 기록 대기 중 중단");
+        }
+        userExistenceFilter.added(userId, email);
+    }
+
+    /**
+     * 다른 경로(v2/v5/v6 등록, 이메일 변경)에서 아이디/이메일을 쓰는 동안 write-behind 등록을 막음
+     * 트랜잭션 안에서 close 하면 트랜잭션이 끝난 뒤 해제 (commit 전에 풀면 write-behind 의 DB 확인을 통과할 수 있음)
+     * @param userIds 등록할 아이디 (null 은 건너뜀)
+     * @param emails  등록/변경할 이메일 (null 은 건너뜀)
+     * @throws DuplicateKeyException 등록 대기 중인 아이디/이메일
+     */
+    public Reservation reserve(Collection<String> userIds, Collection<String> emails) {
+        if (!enabled) {
+            return Reservation.NONE;
+        }
+        Reservation reservation = new Reservation(this,
+                userIds.stream().filter(Objects::nonNull).toList(),
+                emails.stream().filter(Objects::nonNull).toList());
+        reservation.ids.forEach(id -> writingIds.merge(id, 1, Integer::sum));
+        reservation.emails.forEach(email -> writingEmails.merge(email, 1, Integer::sum));
+        if (reservation.ids.stream().anyMatch(pendingIds::containsKey)
+                || reservation.emails.stream().anyMatch(pendingEmails::containsKey)) {
+            unreserve(reservation);
+            throw new DuplicateKeyException("등록 대기 중인 아이디/이메일입니다");
+        }
+        return reservation;
+    }
+
+    public Reservation reserve(String userId, String email) {
+        return reserve(Collections.singletonList(userId), Collections.singletonList(email));
+    }
+
+    /**
+     * DB 반영 대기 중인 등록 (없으면 empty)
+     */
+    public Optional<User3> pending(String userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Long lsn = pendingIds.get(userId);
+        return lsn == null || lsn == 0 ? Optional.empty() : Optional.ofNullable(pending.get(lsn)).map(this::copyOf);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 등록을 지금 DB 에 반영 (반영하지 못하고 남은 수 반환)
+     */
+    public int flush() {
+        drain();
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        wakeup.release();
+        drainer.join(TimeUnit.SECONDS.toMillis(30));
+        wal.close();
+        if (!pending.isEmpty()) {
+            log.warn("DB 에 반영하지 못한 등록 {}건은 다음 시작 때 다시 반영", pending.size());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("user.write-behind.pending", pending, Map::size)
+                .description("WAL 에 기록됐지만 DB 에 반영되지 않은 등록 수")
+                .register(registry);
+        FunctionCounter.builder("user.write-behind.group-commits", groupCommits, LongAdder::sum)
+                .description("WAL fsync 횟수")
+                .register(registry);
+        FunctionCounter.builder("user.write-behind.drained", drained, LongAdder::sum)
+                .description("DB 에 반영한 등록 수")
+                .register(registry);
+        FunctionCounter.builder("user.write-behind.rejected", rejected, LongAdder::sum)
+                .description("DB 반영 중 충돌로 버린 등록 수 (rejected.log)")
+                .register(registry);
+        FunctionCounter.builder("user.write-behind.refused", refused, LongAdder::sum)
+                .description("대기 한도 초과로 거절한 등록 수")
+                .register(registry);
+    }
+
+    // Helper Method
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // varchar(n) 은 문자 수 기준
+    private static boolean tooLong(String value, int length) {
+        return value.codePointCount(0, value.length()) > length;
+    }
+
+    private void release(long lsn, String userId, String email) {
+        pendingIds.remove(userId, lsn);
+        pendingEmails.remove(email, userId);
+        inFlight.decrementAndGet();
+    }
+
+    private void unreserve(Reservation reservation) {
+        reservation.ids.forEach(id -> writingIds.computeIfPresent(id, (key, count) -> count == 1 ? null : count - 1));
+        reservation.emails.forEach(email -> writingEmails.computeIfPresent(email, (key, count) -> count == 1 ? null : count - 1));
+    }
+
+    private void writeLoop() {
+        List<Append> group = new ArrayList<>();
+        while (running || !appends.isEmpty()) {
+            try {
+                Append first = appends.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                appends.drainTo(group, MAX_GROUP - 1);
+                write(group);
+            } catch (RuntimeException e) {
+                // 이 묶음만 실패로 끝내고 writer 는 계속 (스레드가 죽으면 이후 submit 이 모두 멈춤)
+                log.error("user WAL 기록 실패 : {}건", group.size(), e);
+                fail(group, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void write(List<Append> group) {
+        // 레코드마다 따로 인코딩해서 기록할 수 없는 요청 하나가 같은 묶음의 다른 요청까지 실패시키지 않게 함
+        List<Append> encoded = new ArrayList<>(group.size());
+        List<byte[]> records = new ArrayList<>(group.size());
+        for (Append append : group) {
+            try {
+                records.add(UserWriteAheadLog.encode(append.user()));
+                encoded.add(append);
+            } catch (IOException e) {
+                fail(List.of(append), new IllegalArgumentException("WAL 에 기록할 수 없는 값입니다", e));
+            }
+        }
+        if (encoded.isEmpty()) {
+            return;
+        }
+
+        long lsn;
+        try {
+            lsn = wal.appendEncoded(records);
+        } catch (IOException e) {
+            log.error("user WAL 기록 실패 : {}건", encoded.size(), e);
+            fail(encoded, new UncheckedIOException(e));
+            return;
+        }
+
+        groupCommits.increment();
+        for (Append append : encoded) {
+            pending.put(lsn, append.user());
+            pendingIds.put(append.user().getUserId(), lsn);
+            lsn++;
+            append.written().complete(null);
+        }
+        if (pending.size() >= batchSize) {
+            wakeup.release();
+        }
+    }
+
+    private void fail(List<Append> group, RuntimeException cause) {
+        for (Append append : group) {
+            // 이미 WAL 에 기록된 등록은 그대로 둠
+            if (pendingIds.remove(append.user().getUserId(), 0L)) {
+                pendingEmails.remove(append.user().getEmail(), append.user().getUserId());
+                inFlight.decrementAndGet();
+            }
+            append.written().completeExceptionally(cause);
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                wakeup.tryAcquire(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                wakeup.drainPermits();
+                drain();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("user WAL DB 반영 실패, 다음 주기에 재시도", e);
+            }
+        }
+        drain();
+    }
+
+    private void drain() {
+        drainLock.lock();
+        try {
+            while (!pending.isEmpty()) {
+                List<Map.Entry<Long, User3>> batch = new ArrayList<>(batchSize);
+                for (Map.Entry<Long, User3> entry : pending.entrySet()) {
+                    batch.add(entry);
+                    if (batch.size() == batchSize) {
+                        break;
+                    }
+                }
+                if (!insert(batch)) {
+                    return;
+                }
+                Long next = pending.isEmpty() ? null : pending.firstKey();
+                wal.release(next == null ? batch.get(batch.size() - 1).getKey() : next - 1);
+            }
+        } catch (IOException e) {
+            log.warn("user WAL 정리 실패", e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    // batch 를 한 트랜잭션으로 넣고, 충돌이 있으면 한 건씩 (DB 장애 등으로 더 진행할 수 없으면 false)
+    private boolean insert(List<Map.Entry<Long, User3>> batch) {
+        try {
+            inTransaction(() -> batch.forEach(entry -> entityManager.persist(copyOf(entry.getValue()))));
+            batch.forEach(entry -> done(entry.getKey(), entry.getValue()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("user WAL batch 충돌, 건별 반영 : {}건", batch.size());
+        } catch (DataAccessException e) {
+            log.warn("user WAL batch 반영 실패 : {}", e.getMessage());
+            return false;
+        }
+
+        for (Map.Entry<Long, User3> entry : batch) {
+            User3 user = entry.getValue();
+            try {
+                inTransaction(() -> entityManager.persist(copyOf(user)));
+                done(entry.getKey(), user);
+            } catch (DataIntegrityViolationException e) {
+                // 재시작 전에 이미 반영된 등록이면 그대로 완료, 다른 등록과 충돌했으면 버림
+                Optional<User3> existing = ReplicaDataSource.onPrimary(() -> userRepository.findById(user.getUserId()));
+                if (existing.filter(found -> sameUser(found, user)).isEmpty()) {
+                    reject(entry.getKey(), user, e);
+                }
+                done(entry.getKey(), user);
+            } catch (DataAccessException e) {
+                log.warn("user WAL 반영 실패 : {}", e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // permit 을 잡지 못하면 BulkheadFullException - drainLoop 가 다음 주기에 다시 시도
+    private void inTransaction(Runnable work) {
+        dbBulkhead.supply(() -> transaction.execute(status -> {
+            work.run();
+            return null;
+        }));
+    }
+
+    private void done(long lsn, User3 user) {
+        readYourWrites.written(user.getUserId());
+        pending.remove(lsn);
+        release(lsn, user.getUserId(), user.getEmail());
+        drained.increment();
+    }
+
+    private void reject(long lsn, User3 user, Exception cause) {
+        rejected.increment();
+        log.warn("user WAL 등록 버림 : lsn={}, userId={} ({})", lsn, user.getUserId(), cause.getMessage());
+        String line = lsn + "\t" + user.getUserId() + "\t" + user.getEmail() + "\t" + cause.getClass().getSimpleName() + "\n";
+        try {
+            Files.writeString(dir.resolve("rejected.log"), line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("rejected.log 기록 실패 : {}", line.trim(), e);
+        }
+    }
+
+    private boolean sameUser(User3 a, User3 b) {
+        return Objects.equals(a.getEmail(), b.getEmail())
+                && Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getPassword(), b.getPassword());
+    }
+
+    private User3 copyOf(User3 user) {
+        return new User3(user.getUserId(), user.getPassword(), user.getName(), user.getEmail(), null);
+    }
+
+    private record Append(User3 user, CompletableFuture<Void> written) {
+    }
+
+    /**
+     * reserve 로 잡은 아이디/이메일 (close 하면 해제)
+     */
+    public static final class Reservation implements AutoCloseable {
+
+        static final Reservation NONE = new Reservation(null, List.of(), List.of());
+
+        private final UserWriteBehind owner;
+        private final List<String> ids;
+        private final List<String> emails;
+
+        private Reservation(UserWriteBehind owner, List<String> ids, List<String> emails) {
+            this.owner = owner;
+            this.ids = ids;
+            this.emails = emails;
+        }
+
+        @Override
+        public void close() {
+            if (owner == null) {
+                return;
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        owner.unreserve(Reservation.this);
+                    }
+                });
+                return;
+            }
+            owner.unreserve(this);
+        }
+    }
+}
@@ -1,6 +1,6 @@
-insert into users(userId, password, name, email) values ('azeromo', 'azero', '이영규', 'azero@bzero.com');
-insert into users(userId, password, name, email) values ('bzeromo', 'bzero', '박영규', 'bzero@bzero.com');
-insert into users(userId, password, name, email) values ('czeromo', 'czero', '김영규', 'czero@bzero.com');
+merge into users(userId, password, name, email) key(userId) values ('azeromo', 'azero', '이영규', 'azero@bzero.com');
+merge into users(userId, password, name, email) key(userId) values ('bzeromo', 'bzero', '박영규', 'bzero@bzero.com');
+merge into users(userId, password, name, email) key(userId) values ('czeromo', 'czero', '김영규', 'czero@bzero.com');
 
-insert into employees
+merge into employees key(EMPLOYEE_ID)
 select * from csvread('classpath:employees.csv', null, 'charset=UTF-8 fieldSeparator=,');
\ No newline at end of file
@@ -6,9 +6,17 @@ create table if not exists users (
     name varchar(10) not null,
     email varchar(50) not null,
     createdAt datetime default current_timestamp,
+    -- 낙관적 잠금용 (수정할 때마다 1 증가, jpa @Version)
+    version bigint default 0 not null,
     primary key (userId)
 );
 
+-- 사용자 목록 keyset 페이지네이션용 (order by createdAt desc, userId desc)
+create index if not exists idx_users_createdAt_userId on users (createdAt desc, userId desc);
+
+-- 이메일 중복 방지 (수정 API 의 409, 모든 등록 경로에서 같은 이메일 거절)
+create unique index if not exists uk_users_email on users (email);
+
 CREATE TABLE IF NOT EXISTS EMPLOYEES (
     EMPLOYEE_ID NUMBER(6) PRIMARY KEY,
     FIRST_NAME VARCHAR2(20),
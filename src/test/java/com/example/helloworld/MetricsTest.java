@@ -0,0 +1,44 @@
+package com.example.helloworld;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+@SpringBootTest
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class MetricsTest {
+
+    private final MockMvc mockMvc;
+
+    @Test
+    @DisplayName("요청/SQL 지연 시간 지표 수집 테스트")
+    void prometheusTest() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/v2/users").param("size", "2")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v5/users")).andExpect(status().isOk());
+
+        // When, Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("uri=\"/api/v2/users\"")))
+                .andExpect(content().string(containsString(
+                        "mybatis_statement_seconds_count{outcome=\"success\",statement=\"com.example.helloworld.user.repository.UserRepository.findUserPage\"}")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.helloworld.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+public class DbBulkheadTest { // 단위 테스트: DB bulkhead
+
+    @Test
+    @DisplayName("permit 이 없으면 거절")
+    void rejectTest() throws Throwable {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DbBulkhead bulkhead = new DbBulkhead(1, Duration.ZERO);
+        bulkhead.bindTo(registry);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.execute(() -> {
+                    holding.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "first";
+                });
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holding.await(5, TimeUnit.SECONDS);
+
+        // When, Then
+        assertThatThrownBy(() -> bulkhead.execute(() -> "second"))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(registry.get("db.bulkhead.rejected").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("db.bulkhead.available").gauge().value()).isEqualTo(0);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(bulkhead.execute(() -> "third")).isEqualTo("third");
+        assertThat(registry.get("db.bulkhead.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("중첩 호출은 permit 을 다시 잡지 않음")
+    void reentrantTest() throws Throwable {
+        DbBulkhead bulkhead = new DbBulkhead(1, Duration.ZERO);
+
+        String result = bulkhead.execute(() -> bulkhead.execute(() -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+    }
+
+    @Test
+    @DisplayName("supply 는 permit 을 먼저 잡고, 못 잡으면 call(트랜잭션/커넥션)을 실행하지 않음")
+    void supplyTest() throws Throwable {
+        // Given
+        DbBulkhead bulkhead = new DbBulkhead(1, Duration.ZERO);
+        AtomicBoolean called = new AtomicBoolean();
+
+        // When, Then
+        bulkhead.execute(() -> {
+            CompletableFuture<String> other = CompletableFuture.supplyAsync(() -> bulkhead.supply(() -> {
+                called.set(true);
+                return "other";
+            }));
+            assertThatThrownBy(other::join).hasCauseInstanceOf(BulkheadFullException.class);
+            return null;
+        });
+        assertThat(called).isFalse();
+        assertThat(bulkhead.supply(() -> "after")).isEqualTo("after");
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.helloworld.common;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+public class ReplicaDataSourceTest { // 단위 테스트: replica 라우팅 (H2 메모리 DB 여러 개)
+
+    @Test
+    @DisplayName("replica 를 돌아가며 쓰고 onPrimary 범위는 primary")
+    void routeTest() throws Exception {
+        // Given
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", node("rds_route_r1"));
+        replicas.put("replica-2", node("rds_route_r2"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReplicaDataSource dataSource = new ReplicaDataSource(node("rds_route_primary"), replicas, Duration.ofSeconds(1));
+        dataSource.bindTo(registry);
+
+        // When, Then
+        assertThat(nodeOf(dataSource)).isEqualTo("rds_route_r1");
+        assertThat(nodeOf(dataSource)).isEqualTo("rds_route_r2");
+        assertThat(nodeOf(dataSource)).isEqualTo("rds_route_r1");
+        assertThat(ReplicaDataSource.onPrimary(() -> nodeOf(dataSource))).isEqualTo("rds_route_primary");
+
+        assertThat(registry.get("db.read.routes").tag("target", "replica-1").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("db.read.routes").tag("target", "replica-2").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("db.read.routes").tag("target", "primary").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결 안 되는 replica 는 빼고, 모두 안 되면 primary, 살아나면 다시 사용")
+    void healthTest() throws Exception {
+        // Given
+        // replica-2 는 아직 DB 가 없어 연결 실패 (내려간 replica)
+        node("rds_health_r1");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", existing("rds_health_r1"));
+        replicas.put("replica-2", existing("rds_health_r2"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReplicaDataSource dataSource = new ReplicaDataSource(node("rds_health_primary"), replicas, Duration.ofSeconds(1));
+        dataSource.bindTo(registry);
+
+        // When
+        dataSource.checkHealth();
+
+        // Then
+        assertThat(dataSource.isHealthy("replica-1")).isTrue();
+        assertThat(dataSource.isHealthy("replica-2")).isFalse();
+        assertThat(registry.get("db.replica.healthy").tag("replica", "replica-2").gauge().value()).isEqualTo(0);
+        assertThat(nodeOf(dataSource)).isEqualTo("rds_health_r1");
+        assertThat(nodeOf(dataSource)).isEqualTo("rds_health_r1");
+
+        // 남은 replica 도 내려가면 primary
+        shutdown("rds_health_r1");
+        assertThat(nodeOf(dataSource)).isEqualTo("rds_health_primary");
+        assertThat(dataSource.isHealthy("replica-1")).isFalse();
+
+        // replica-2 가 살아나면 다음 확인 때 다시 사용
+        node("rds_health_r2");
+        dataSource.checkHealth();
+        assertThat(dataSource.isHealthy("replica-2")).isTrue();
+        assertThat(registry.get("db.replica.healthy").tag("replica", "replica-2").gauge().value()).isEqualTo(1);
+        assertThat(nodeOf(dataSource)).isEqualTo("rds_health_r2");
+    }
+
+    @Test
+    @DisplayName("replica 풀이 꽉 차 대기 시간이 지나면 primary 로 읽지만 replica 를 빼지는 않음")
+    void busyTest() throws Exception {
+        // Given
+        node("rds_busy_r1");
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:rds_busy_r1;IFEXISTS=TRUE");
+        pool.setMaximumPoolSize(1);
+        pool.setConnectionTimeout(250);
+        ReplicaDataSource dataSource = new ReplicaDataSource(node("rds_busy_primary"), Map.of("replica-1", pool), Duration.ofSeconds(1));
+
+        // When
+        try (Connection busy = pool.getConnection()) {
+            // Then
+            assertThat(nodeOf(dataSource)).isEqualTo("rds_busy_primary");
+            dataSource.checkHealth();
+            assertThat(dataSource.isHealthy("replica-1")).isTrue();
+        } finally {
+            assertThat(nodeOf(dataSource)).isEqualTo("rds_busy_r1");
+            dataSource.close();
+        }
+    }
+
+    // Helper Method
+    // 자기 이름을 가진 node 테이블이 있는 메모리 DB
+    private DataSource node(String name) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists node (name varchar(50))");
+            statement.execute("merge into node key (name) values ('" + name + "')");
+        }
+        return dataSource;
+    }
+
+    // 이미 만들어진 DB 에만 연결 (없거나 내려갔으면 연결 실패)
+    private DataSource existing(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";IFEXISTS=TRUE");
+        return dataSource;
+    }
+
+    private void shutdown(String name) throws SQLException {
+        try (Connection connection = existing(name).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+    }
+
+    private String nodeOf(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select name from node")) {
+            rs.next();
+            return rs.getString(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.helloworld.common;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlLogSamplingFilterTest { // 단위 테스트: SQL 로그 샘플링
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger mapperLogger = context.getLogger("com.example.helloworld.user.repository.UserRepository.findByUserId");
+    private final Logger otherLogger = context.getLogger("com.example.helloworld.user.controller.UserController");
+
+    @Test
+    @DisplayName("샘플링되지 않은 문장은 뒤따르는 줄까지 함께 버림")
+    void dropWholeStatementTest() {
+        // Given
+        SqlLogSamplingFilter filter = new SqlLogSamplingFilter();
+        filter.setSampleRate(0);
+
+        // When & Then
+        assertThat(decide(filter, mapperLogger, "==>  Preparing: select * from users")).isEqualTo(FilterReply.DENY);
+        assertThat(decide(filter, mapperLogger, "==> Parameters: user1(String)")).isEqualTo(FilterReply.DENY);
+        assertThat(decide(filter, mapperLogger, "<==      Total: 1")).isEqualTo(FilterReply.DENY);
+        assertThat(decide(filter, otherLogger, "getUsers 호출")).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("비율이 1이면 모두 남김")
+    void keepAllTest() {
+        // Given
+        SqlLogSamplingFilter filter = new SqlLogSamplingFilter();
+        filter.setSampleRate(1.0);
+
+        // When & Then
+        assertThat(decide(filter, mapperLogger, "==>  Preparing: select * from users")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, mapperLogger, "<==      Total: 1")).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    // Helper Method
+    private FilterReply decide(SqlLogSamplingFilter filter, Logger logger, String message) {
+        return filter.decide(null, logger, Level.DEBUG, message, null, null);
+    }
+}
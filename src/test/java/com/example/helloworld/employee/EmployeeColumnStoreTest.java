@@ -0,0 +1,76 @@
+package com.example.helloworld.employee;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeScanQuery;
+import com.example.helloworld.employee.dto.EmployeeScanResultDto;
+import com.example.helloworld.employee.repository.EmployeeColumnStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeColumnStoreTest { // 단위 테스트: 컬럼 스토어 병렬 스캔
+
+    private static final int ROWS = 300_000; // segment 여러 개에 걸치도록
+
+    @Test
+    @DisplayName("여러 segment 병렬 스캔 결과가 순차 계산과 같음")
+    void parallelScanTest() {
+        // Given
+        EmployeeColumnStore store = new EmployeeColumnStore(null, null);
+        store.load(IntStream.range(0, ROWS).mapToObj(this::employee));
+        EmployeeScanQuery query = EmployeeScanQuery.builder()
+                .minSalary(new BigDecimal("3000.50"))
+                .maxSalary(new BigDecimal("8000"))
+                .hiredFrom(LocalDate.of(2010, 1, 1))
+                .departmentIds(Set.of(10, 30))
+                .jobIds(Set.of("IT_PROG", "SA_REP"))
+                .limit(5)
+                .build();
+
+        // When
+        EmployeeScanResultDto result = store.scan(query);
+
+        // Then
+        long expected = 0;
+        long sumCents = 0;
+        Integer firstId = null;
+        for (int i = 0; i < ROWS; i++) {
+            Employee e = employee(i);
+            long cents = e.getSalary() == null ? -1 : e.getSalary().movePointRight(2).longValue();
+            if ((e.getDepartmentId() != null && (e.getDepartmentId() == 10 || e.getDepartmentId() == 30))
+                    && (e.getJobId().equals("IT_PROG") || e.getJobId().equals("SA_REP"))
+                    && !e.getHireDate().isBefore(LocalDate.of(2010, 1, 1))
+                    && cents >= 300050 && cents <= 800000) {
+                expected++;
+                sumCents += cents;
+                if (firstId == null) {
+                    firstId = e.getEmployeeId();
+                }
+            }
+        }
+        assertThat(result.getMatched()).isEqualTo(expected).isPositive();
+        assertThat(result.getSumSalary()).isEqualByComparingTo(BigDecimal.valueOf(sumCents, 2));
+        assertThat(result.getEmployeeIds()).hasSize(5).first().isEqualTo(firstId);
+        assertThat(result.getEmployeeIds()).isSorted();
+    }
+
+    // Helper Method
+    private Employee employee(int i) {
+        String[] jobs = {"IT_PROG", "SA_REP", "ST_CLERK", "AD_VP"};
+        return Employee.builder()
+                .employeeId(i)
+                .lastName("Last" + i)
+                .email("E" + i)
+                .hireDate(LocalDate.of(2000, 1, 1).plusDays(i % 9000))
+                .jobId(jobs[i % jobs.length])
+                .salary(i % 17 == 0 ? null : BigDecimal.valueOf(2000_00 + (i * 7919L) % 10000_00, 2))
+                .departmentId(i % 11 == 0 ? null : (i % 5) * 10)
+                .build();
+    }
+}
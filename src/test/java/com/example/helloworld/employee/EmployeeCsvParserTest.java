@@ -0,0 +1,48 @@
+package com.example.helloworld.employee;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.service.EmployeeCsvParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmployeeCsvParserTest { // 단위 테스트: 사원 CSV 파싱
+
+    @Test
+    @DisplayName("정상 행 파싱 (빈 값은 null, 따옴표 안 쉼표 허용)")
+    void parseTest() {
+        // Given
+        String line = "101,\"Neena, Jr\",Kochhar,NKOCHHAR,515.123.4568,2005-09-21,AD_VP,17000,,100,90";
+
+        // When
+        Employee employee = EmployeeCsvParser.parse(line);
+
+        // Then
+        assertThat(employee.getEmployeeId()).isEqualTo(101);
+        assertThat(employee.getFirstName()).isEqualTo("Neena, Jr");
+        assertThat(employee.getHireDate()).isEqualTo(LocalDate.of(2005, 9, 21));
+        assertThat(employee.getSalary()).isEqualByComparingTo(new BigDecimal("17000"));
+        assertThat(employee.getCommissionPct()).isNull();
+        assertThat(employee.getManagerId()).isEqualTo(100);
+        assertThat(employee.getDepartmentId()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("필수값 누락, 형식 오류는 사유와 함께 예외")
+    void invalidTest() {
+        assertThatThrownBy(() -> EmployeeCsvParser.parse("101,Neena,,NKOCHHAR,,2005-09-21,AD_VP,,,,"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("LAST_NAME");
+        assertThatThrownBy(() -> EmployeeCsvParser.parse("101,Neena,Kochhar,NKOCHHAR,,21/09/2005,AD_VP,,,,"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("HIRE_DATE");
+        assertThatThrownBy(() -> EmployeeCsvParser.parse("101,Neena,Kochhar"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("컬럼 수");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.helloworld.employee;
+
+import com.example.helloworld.employee.dto.EmployeeIngestStatusDto;
+import com.example.helloworld.employee.service.EmployeeIngestService;
+import com.example.helloworld.employee.service.EmployeeHierarchyIndex;
+import com.example.helloworld.employee.service.EmployeeSalaryView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// chunk 와 batch 를 작게 잡아 여러 chunk 가 병렬로 처리되게 함
+@SpringBootTest(properties = {"employee.ingest.chunk-bytes=512", "employee.ingest.batch-size=7"})
+public class EmployeeIngestServiceTest { // 통합 테스트: 사원 CSV 적재
+
+    @Autowired
+    private EmployeeIngestService employeeIngestService;
+
+    @Autowired
+    private EmployeeSalaryView employeeSalaryView;
+
+    @Autowired
+    private EmployeeHierarchyIndex employeeHierarchyIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from employees where employee_id >= 9000");
+        // 직접 지운 행은 집계 뷰, 조직도 인덱스에 반영되지 않으므로 다시 맞춤
+        employeeSalaryView.rebuild();
+        employeeHierarchyIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("정상 행은 모두 등록, 실패 행은 reject 파일로 분리")
+    void ingestTest() throws IOException {
+        // Given
+        List<String> lines = new ArrayList<>();
+        lines.add("EMPLOYEE_ID,FIRST_NAME,LAST_NAME,EMAIL,PHONE_NUMBER,HIRE_DATE,JOB_ID,SALARY,COMMISSION_PCT,MANAGER_ID,DEPARTMENT_ID");
+        for (int id = 9000; id < 9100; id++) {
+            lines.add(id + ",First,Last" + id + ",INGEST" + id + ",515.123.4567,2020-01-01,IT_PROG,5000,,100,60");
+        }
+        lines.add("9100,First,,INGEST9100,,2020-01-01,IT_PROG,,,,");              // LAST_NAME 누락
+        lines.add("100,Steven,King,INGEST_DUP,,2003-06-17,AD_PRES,24000,,,90"); // 이미 있는 사원번호
+        Path file = tempDir.resolve("employees.csv");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+
+        // When
+        EmployeeIngestStatusDto status = employeeIngestService.ingest(file);
+
+        // Then
+        assertThat(status.getState()).isEqualTo("COMPLETED");
+        assertThat(status.getRowsRead()).isEqualTo(102);
+        assertThat(status.getInserted()).isEqualTo(100);
+        assertThat(status.getRejected()).isEqualTo(2);
+        assertThat(status.getProcessedBytes()).isEqualTo(Files.size(file));
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from employees where employee_id between 9000 and 9099", Integer.class))
+                .isEqualTo(100);
+
+        List<String> rejected = Files.readAllLines(Path.of(status.getRejectFile()), StandardCharsets.UTF_8);
+        assertThat(rejected).hasSize(3); // 헤더 + 2행
+        assertThat(rejected.get(0)).isEqualTo("offset,reason,line");
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.helloworld.employee;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeSalaryBucketDto;
+import com.example.helloworld.employee.dto.EmployeeSalaryStatDto;
+import com.example.helloworld.employee.repository.EmployeeRepository;
+import com.example.helloworld.employee.service.EmployeeSalaryView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class) // 단위 테스트: 집계 뷰
+public class EmployeeSalaryViewTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeSalaryView employeeSalaryView;
+
+    @Test
+    @DisplayName("rebuild 가 DB 를 읽는 동안 들어온 변경도 새 뷰에 반영")
+    void rebuildDuringDeltaTest() {
+        // Given
+        // DB 를 읽은 직후(뷰 교체 전)에 다른 요청이 사원을 등록
+        given(employeeRepository.findSalaryBuckets()).willAnswer(invocation -> {
+            employeeSalaryView.added(Employee.builder().employeeId(9010).departmentId(60).jobId("IT_PROG")
+                    .salary(new BigDecimal("9000.00")).build());
+            return List.of(new EmployeeSalaryBucketDto(60, "IT_PROG", new BigDecimal("5000.00"), 2));
+        });
+
+        // When
+        employeeSalaryView.rebuild();
+
+        // Then
+        EmployeeSalaryStatDto it = employeeSalaryView.byDepartment().get(0);
+        assertThat(it.getGroup()).isEqualTo("60");
+        assertThat(it.getHeadcount()).isEqualTo(3);
+        assertThat(it.getMaxSalary()).isEqualByComparingTo("9000.00");
+        assertThat(it.getSumSalary()).isEqualByComparingTo("19000.00");
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.helloworld.employee;
+
+import com.example.helloworld.employee.domain.Employee;
+import com.example.helloworld.employee.dto.EmployeeReportsDto;
+import com.example.helloworld.employee.dto.EmployeeSalaryStatDto;
+import com.example.helloworld.employee.dto.EmployeeScanQuery;
+import com.example.helloworld.employee.dto.EmployeeScanResultDto;
+import com.example.helloworld.employee.dto.EmployeeSpanDto;
+import com.example.helloworld.employee.service.EmployeeHierarchyIndex;
+import com.example.helloworld.employee.service.EmployeeSalaryView;
+import com.example.helloworld.employee.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class EmployeeServiceTest { // 통합 테스트: 사원 등록/수정과 집계 뷰
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeSalaryView employeeSalaryView;
+
+    @Autowired
+    private EmployeeHierarchyIndex employeeHierarchyIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        employeeSalaryView.rebuild();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from employees where employee_id >= 9000");
+        employeeSalaryView.rebuild();
+        employeeHierarchyIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("부서별 집계는 GROUP BY 결과와 같음")
+    void departmentStatsTest() {
+        // When
+        List<EmployeeSalaryStatDto> stats = employeeService.readDepartmentStats();
+
+        // Then
+        List<Map<String, Object>> expected = jdbcTemplate.queryForList(
+                "select department_id, count(*) cnt, min(salary) mn, max(salary) mx, sum(salary) sm " +
+                "from employees group by department_id order by department_id");
+        assertThat(stats).hasSize(expected.size());
+        for (Map<String, Object> row : expected) {
+            Object departmentId = row.get("DEPARTMENT_ID");
+            EmployeeSalaryStatDto stat = find(stats, departmentId == null ? null : departmentId.toString());
+            assertThat(stat.getHeadcount()).isEqualTo(((Number) row.get("CNT")).longValue());
+            assertThat(stat.getMinSalary()).isEqualByComparingTo((BigDecimal) row.get("MN"));
+            assertThat(stat.getMaxSalary()).isEqualByComparingTo((BigDecimal) row.get("MX"));
+            assertThat(stat.getSumSalary()).isEqualByComparingTo((BigDecimal) row.get("SM"));
+        }
+    }
+
+    @Test
+    @DisplayName("등록/수정하면 다시 읽지 않고 집계에 반영 (최대값이 빠지는 경우 포함)")
+    void incrementalUpdateTest() {
+        // Given
+        EmployeeSalaryStatDto before = find(employeeService.readJobStats(), "IT_PROG");
+
+        // When: IT_PROG 최고 급여보다 높은 사원을 등록했다가 다른 직무로 옮김
+        Employee employee = Employee.builder()
+                .employeeId(9001).lastName("Kim").email("VIEW9001")
+                .hireDate(LocalDate.of(2024, 1, 2)).jobId("IT_PROG")
+                .salary(before.getMaxSalary().add(BigDecimal.valueOf(1000))).departmentId(60)
+                .build();
+        employeeService.newEmployee(employee);
+        EmployeeSalaryStatDto added = find(employeeService.readJobStats(), "IT_PROG");
+
+        employee.setJobId("SA_REP");
+        employeeService.updateEmployee(9001, employee);
+        EmployeeSalaryStatDto moved = find(employeeService.readJobStats(), "IT_PROG");
+
+        // Then
+        assertThat(added.getHeadcount()).isEqualTo(before.getHeadcount() + 1);
+        assertThat(added.getMaxSalary()).isEqualByComparingTo(employee.getSalary());
+        assertThat(moved.getHeadcount()).isEqualTo(before.getHeadcount());
+        assertThat(moved.getMaxSalary()).isEqualByComparingTo(before.getMaxSalary());
+        assertThat(moved.getSumSalary()).isEqualByComparingTo(before.getSumSalary());
+    }
+
+    @Test
+    @DisplayName("컬럼 스토어 스캔은 같은 조건의 SQL 결과와 같음 (테이블, csv 적재 모두)")
+    void columnStoreScanTest() throws IOException {
+        // Given
+        EmployeeScanQuery query = EmployeeScanQuery.builder()
+                .minSalary(new BigDecimal("5000"))
+                .hiredFrom(LocalDate.of(2005, 1, 1))
+                .departmentIds(Set.of(50, 80))
+                .build();
+        Map<String, Object> expected = jdbcTemplate.queryForMap(
+                "select count(*) cnt, sum(salary) sm from employees " +
+                "where salary >= 5000 and hire_date >= date '2005-01-01' and department_id in (50, 80)");
+
+        // When
+        int tableRows = employeeService.reloadColumnStore();
+        EmployeeScanResultDto fromTable = employeeService.scanEmployees(query);
+        int csvRows = employeeService.reloadColumnStore(new ClassPathResource("employees.csv").getFile().toPath());
+        EmployeeScanResultDto fromCsv = employeeService.scanEmployees(query);
+        employeeService.reloadColumnStore();
+
+        // Then
+        assertThat(tableRows).isEqualTo(csvRows).isEqualTo(107);
+        for (EmployeeScanResultDto result : List.of(fromTable, fromCsv)) {
+            assertThat(result.getMatched()).isEqualTo(((Number) expected.get("CNT")).longValue());
+            assertThat(result.getSumSalary()).isEqualByComparingTo((BigDecimal) expected.get("SM"));
+        }
+    }
+
+    @Test
+    @DisplayName("조직도 인덱스: 전체 부하는 재귀 쿼리 결과와 같고, 지휘 계통은 최상위까지")
+    void hierarchyTest() {
+        // Given
+        List<Integer> expected = jdbcTemplate.queryForList(
+                "with recursive sub(id) as (" +
+                "  select employee_id from employees where manager_id = 101" +
+                "  union all" +
+                "  select e.employee_id from employees e join sub on e.manager_id = sub.id)" +
+                " select id from sub", Integer.class);
+
+        // When
+        EmployeeReportsDto reports = employeeService.readReports(101, 0, 1000).orElseThrow();
+        EmployeeSpanDto span = employeeService.readSpanOfControl(101).orElseThrow();
+        List<Integer> chain = employeeService.readChainOfCommand(206).orElseThrow();
+
+        // Then
+        assertThat(reports.getTotalReports()).isEqualTo(expected.size());
+        assertThat(reports.getEmployeeIds()).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(span.getTotalReports()).isEqualTo(expected.size());
+        assertThat(span.getDirectReports()).isEqualTo(
+                jdbcTemplate.queryForObject("select count(*) from employees where manager_id = 101", Integer.class));
+        assertThat(span.getDepth()).isEqualTo(1);
+        assertThat(chain).containsExactly(205, 101, 100);
+        assertThat(employeeService.readReports(99999, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조직도 인덱스: 등록/관리자 변경이 바로 반영되고, 순환 지정은 거절")
+    void hierarchyUpdateTest() {
+        // Given
+        int before = employeeService.readSpanOfControl(100).orElseThrow().getTotalReports();
+        Employee employee = Employee.builder()
+                .employeeId(9002).lastName("Lee").email("TREE9002")
+                .hireDate(LocalDate.of(2024, 1, 2)).jobId("IT_PROG").managerId(103).departmentId(60)
+                .build();
+
+        // When
+        employeeService.newEmployee(employee);
+        List<Integer> chainUnder103 = employeeService.readChainOfCommand(9002).orElseThrow();
+        employee.setManagerId(205);
+        employeeService.updateEmployee(9002, employee);
+        List<Integer> chainUnder205 = employeeService.readChainOfCommand(9002).orElseThrow();
+
+        // Then
+        assertThat(chainUnder103).containsExactly(103, 102, 100);
+        assertThat(chainUnder205).containsExactly(205, 101, 100);
+        assertThat(employeeService.readSpanOfControl(100).orElseThrow().getTotalReports()).isEqualTo(before + 1);
+        assertThat(employeeService.readReports(205, 0, 100).orElseThrow().getEmployeeIds()).contains(9002);
+        assertThat(employeeService.readReports(103, 0, 100).orElseThrow().getEmployeeIds()).doesNotContain(9002);
+
+        Employee king = employeeService.readByEmployeeId(100);
+        king.setManagerId(9002);
+        assertThatThrownBy(() -> employeeService.updateEmployee(100, king))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("조직도 인덱스: 서로를 관리자로 동시에 지정하면 하나만 반영")
+    void concurrentMoveTest() throws Exception {
+        // Given
+        for (int id : new int[]{9003, 9004}) {
+            employeeService.newEmployee(Employee.builder()
+                    .employeeId(id).lastName("Lee").email("TREE" + id)
+                    .hireDate(LocalDate.of(2024, 1, 2)).jobId("IT_PROG").managerId(103).departmentId(60)
+                    .build());
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        List<Future<Boolean>> moves = List.of(
+                executor.submit(() -> move(start, 9003, 9004)),
+                executor.submit(() -> move(start, 9004, 9003)));
+        start.countDown();
+        int moved = 0;
+        for (Future<Boolean> move : moves) {
+            moved += move.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(moved).isEqualTo(1);
+        assertThat(employeeService.readChainOfCommand(9003).orElseThrow()).endsWith(103, 102, 100);
+        assertThat(employeeService.readChainOfCommand(9004).orElseThrow()).endsWith(103, 102, 100);
+    }
+
+    // Helper Method
+    private boolean move(CountDownLatch start, int employeeId, int managerId) throws InterruptedException {
+        start.await();
+        Employee employee = employeeService.readByEmployeeId(employeeId);
+        employee.setManagerId(managerId);
+        try {
+            employeeService.updateEmployee(employeeId, employee);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private EmployeeSalaryStatDto find(List<EmployeeSalaryStatDto> stats, String group) {
+        return stats.stream()
+                .filter(stat -> group == null ? stat.getGroup() == null : group.equals(stat.getGroup()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
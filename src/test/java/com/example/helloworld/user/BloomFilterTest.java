@@ -0,0 +1,50 @@
+package com.example.helloworld.user;
+
+import com.example.helloworld.user.service.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@Slf4j
+public class BloomFilterTest { // 단위 테스트: 중복 확인용 Bloom filter
+
+    @Test
+    @DisplayName("넣은 값은 항상 있음, 넣지 않은 값의 오탐률은 목표 근처")
+    void falsePositiveRateTest() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // When
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@bzero.com"));
+        long falsePositives = IntStream.range(10_000, 110_000)
+                .filter(i -> filter.mightContain("user" + i + "@bzero.com"))
+                .count();
+
+        // Then
+        log.info("bits = {}, hashes = {}, expectedFpp = {}, observed = {}",
+                filter.bitSize(), filter.hashCount(), filter.expectedFpp(), falsePositives / 100_000.0);
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("user" + i + "@bzero.com"))).isTrue();
+        assertThat(falsePositives / 100_000.0).isLessThan(0.015);
+        assertThat(filter.expectedFpp()).isCloseTo(0.01, within(0.003));
+        assertThat(filter.approximateCount()).isCloseTo(10_000L, within(300L));
+    }
+
+    @Test
+    @DisplayName("예상 건수를 넘겨 넣으면 예상 오탐률이 올라감")
+    void overfilledTest() {
+        // Given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        // When
+        IntStream.range(0, 5_000).forEach(i -> filter.put("user" + i));
+
+        // Then
+        assertThat(filter.expectedFpp()).isGreaterThan(0.1);
+        assertThat(filter.put("user0")).isFalse();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.helloworld.user;
+
+import com.example.helloworld.user.service.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+public class SingleFlightTest { // 단위 테스트: 동시 조회 합치기
+
+    @Test
+    @DisplayName("같은 key 동시 조회는 한 번만 실행")
+    void coalesceTest() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<String>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> singleFlight.execute("bzeromo", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "박영규";
+        })));
+        started.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            futures.add(executor.submit(() -> singleFlight.execute("bzeromo", () -> {
+                calls.incrementAndGet();
+                return "other";
+            })));
+        }
+        Thread.sleep(100); // 나머지 호출이 대기 상태에 들어갈 시간
+        release.countDown();
+
+        // Then
+        for (Future<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("박영규");
+        }
+        executor.shutdown();
+        assertThat(calls.get()).isEqualTo(1);
+
+        // 실행이 끝난 뒤에는 다시 loader 실행
+        assertThat(singleFlight.execute("bzeromo", () -> "again")).isEqualTo("again");
+    }
+
+    @Test
+    @DisplayName("loader 예외는 호출자에게 그대로 전달")
+    void exceptionTest() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        assertThatThrownBy(() -> singleFlight.execute("azeromo", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute("azeromo", () -> "ok")).isEqualTo("ok");
+    }
+
+    // Helper Method
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
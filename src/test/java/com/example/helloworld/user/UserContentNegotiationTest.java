@@ -0,0 +1,192 @@
+package com.example.helloworld.user;
+
+import com.example.helloworld.common.MessageConverterConfig;
+import com.example.helloworld.common.ProtobufJacksonHttpMessageConverter;
+import com.example.helloworld.employee.dto.EmployeeSalaryStatDto;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+@SpringBootTest
+@RequiredArgsConstructor // final field 변수로 생성자 생성
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@AutoConfigureMockMvc
+public class UserContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ProtobufMapper protobufMapper = new ProtobufMapper();
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where userId like 'codec%'");
+    }
+
+    @Test
+    @DisplayName("Accept 로 JSON/CBOR/Smile/Protobuf 선택, 내용은 같고 JSON 보다 작음: content negotiation")
+    public void getUsersTest() throws Exception {
+        // Given
+        byte[] json = getBytes("/api/v5/users", MediaType.APPLICATION_JSON);
+        JsonNode expected = objectMapper.readTree(json);
+
+        // When
+        byte[] cbor = getBytes("/api/v5/users", MediaType.APPLICATION_CBOR);
+        byte[] smile = getBytes("/api/v5/users", SMILE);
+        byte[] protobuf = getBytes("/api/v5/users", ProtobufJacksonHttpMessageConverter.APPLICATION_PROTOBUF);
+
+        // Then
+        log.info("json = {}, cbor = {}, smile = {}, protobuf = {} bytes", json.length, cbor.length, smile.length, protobuf.length);
+        assertThat(new CBORMapper().readTree(cbor)).isEqualTo(expected);
+        assertThat(new SmileMapper().readTree(smile)).isEqualTo(expected);
+        assertThat(readProtobuf(protobuf, "FindAllUserList").get("items")).isEqualTo(expected);
+        assertThat(cbor.length).isLessThan(json.length);
+        assertThat(smile.length).isLessThan(cbor.length);
+        assertThat(protobuf.length).isLessThan(smile.length);
+    }
+
+    @Test
+    @DisplayName("Accept 가 없거나 */* 이면 JSON: content negotiation")
+    public void defaultJsonTest() throws Exception {
+        // Given
+        // When & Then
+        mockMvc.perform(get("/api/v2/users"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/v1/users").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("user.proto 에 없는 타입(목록 포함)을 protobuf 로 요청하면 406: content negotiation")
+    public void protobufNotAcceptableTest() throws Exception {
+        // Given
+        MediaType protobuf = ProtobufJacksonHttpMessageConverter.APPLICATION_PROTOBUF;
+
+        // When & Then
+        mockMvc.perform(get("/api/employees/stats/departments").accept(protobuf))
+                .andExpect(status().isNotAcceptable());
+        mockMvc.perform(get("/api/employees/stats/departments").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("요소 타입을 모르거나 스키마가 없는 목록은 protobuf 로 쓰지 않음 (406 으로 넘어감): content negotiation")
+    public void protobufUntypedListTest() {
+        // Given
+        MediaType protobuf = ProtobufJacksonHttpMessageConverter.APPLICATION_PROTOBUF;
+        ProtobufJacksonHttpMessageConverter converter = new ProtobufJacksonHttpMessageConverter(
+                protobufMapper, new ClassPathResource(MessageConverterConfig.USER_PROTO), MessageConverterConfig.USER_MESSAGES);
+
+        // When & Then
+        assertThat(converter.canWrite(ArrayList.class, ArrayList.class, protobuf)).isFalse();
+        assertThat(converter.canWrite(ResolvableType.forClassWithGenerics(List.class, Object.class).getType(),
+                ArrayList.class, protobuf)).isFalse();
+        assertThat(converter.canWrite(ResolvableType.forClassWithGenerics(List.class, EmployeeSalaryStatDto.class).getType(),
+                ArrayList.class, protobuf)).isFalse();
+        assertThat(converter.canWrite(ResolvableType.forClassWithGenerics(List.class, FindAllUserDto.class).getType(),
+                ArrayList.class, protobuf)).isTrue();
+    }
+
+    @Test
+    @DisplayName("protobuf 는 user.proto 의 필드 번호로 읽고 씀 (v1, v2, v5, v6): content negotiation")
+    public void protobufTest() throws Exception {
+        // Given
+        MediaType protobuf = ProtobufJacksonHttpMessageConverter.APPLICATION_PROTOBUF;
+        byte[] created = protobufMapper.writer(schemaOf("User"))
+                .writeValueAsBytes(Map.of("userId", "codec1", "password", "password", "name", "codec", "email", "codec1@bzero.com"));
+        byte[] ids = protobufMapper.writer(schemaOf("StringList"))
+                .writeValueAsBytes(Map.of("items", List.of("codec1", "nobody")));
+
+        // When & Then
+        byte[] body = mockMvc.perform(post("/api/v5/users").contentType(protobuf).content(created).accept(protobuf))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(protobuf))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode user = readProtobuf(body, "User");
+        assertThat(user.get("userId").asText()).isEqualTo("codec1");
+        assertThat(user.get("version").asLong()).isZero();
+
+        JsonNode lookup = readProtobuf(mockMvc.perform(post("/api/v2/users/lookup").contentType(protobuf).content(ids).accept(protobuf))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray(), "UserLookup");
+        assertThat(lookup.get("users").get(0).get("email").asText()).isEqualTo("codec1@bzero.com");
+        assertThat(lookup.get("missing").get(0).asText()).isEqualTo("nobody");
+
+        byte[] bulk = protobufMapper.writer(schemaOf("UserCreateList")).writeValueAsBytes(Map.of("items", List.of(
+                Map.of("userId", "codec2", "password", "password", "name", "codec", "email", "codec2@bzero.com"),
+                Map.of("userId", "codec1", "password", "password", "name", "codec", "email", "codec3@bzero.com"))));
+        JsonNode result = readProtobuf(mockMvc.perform(post("/api/v2/users/bulk").contentType(protobuf).content(bulk).accept(protobuf))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray(), "UserBulkResult");
+        assertThat(result.get("succeeded").asInt()).isEqualTo(1);
+        assertThat(result.get("failures").get(0).get("userId").asText()).isEqualTo("codec1");
+
+        JsonNode availability = readProtobuf(getBytes("/api/v5/users/availability?userId=codec9", protobuf), "UserAvailability");
+        assertThat(availability.get("userIdAvailable").asBoolean()).isTrue();
+        assertThat(availability.has("emailAvailable")).isFalse();
+
+        JsonNode users = readProtobuf(getBytes("/api/v1/users", protobuf), "UserList");
+        assertThat(users.get("items").size()).isEqualTo(3);
+
+        MvcResult page = mockMvc.perform(get("/api/v6/users").param("size", "2").accept(protobuf)).andReturn();
+        JsonNode rows = readProtobuf(mockMvc.perform(asyncDispatch(page))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(protobuf))
+                .andReturn().getResponse().getContentAsByteArray(), "FindAllUserList");
+        assertThat(rows.get("items").size()).isEqualTo(2);
+        assertThat(rows.get("items").get(0).get("userId").asText()).startsWith("codec");
+    }
+
+    // Helper Method
+    private byte[] getBytes(String url, MediaType accept) throws Exception {
+        return mockMvc.perform(get(url).accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(accept))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private JsonNode readProtobuf(byte[] bytes, String message) throws IOException {
+        return protobufMapper.readerFor(JsonNode.class).with(schemaOf(message)).readValue(bytes);
+    }
+
+    private ProtobufSchema schemaOf(String message) throws IOException {
+        return ProtobufSchemaLoader.std.load(new ClassPathResource(MessageConverterConfig.USER_PROTO).getURL(), message);
+    }
+}
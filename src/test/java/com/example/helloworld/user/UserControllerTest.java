@@ -1,5 +1,7 @@
 package com.example.helloworld.user;
 
+import com.example.helloworld.user.controller.UserController2;
+import com.example.helloworld.user.controller.UserController5;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
@@ -7,14 +9,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 @Slf4j
 @SpringBootTest
@@ -24,6 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class UserControllerTest {
 
     private final MockMvc mockMvc;
+    private final JdbcTemplate jdbcTemplate;
 
     @Test
     @DisplayName("사용자 전체 조회 테스트: controller")
@@ -36,10 +54,104 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$", hasSize(3)))
                 .andExpect(jsonPath("$.length()").value(3))
+                // cursor, size 가 없으면 페이지로 나누지 않음
+                .andExpect(header().doesNotExist(UserController2.NEXT_CURSOR_HEADER))
                 .andDo(print());
         // Then
     }
 
+    @Test
+    @DisplayName("사용자 페이지 조회 테스트: controller")
+    public void getUsersPage() throws Exception {
+        // Given
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v2/users").param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().exists(UserController2.NEXT_CURSOR_HEADER))
+                .andReturn();
+        String cursor = result.getResponse().getHeader(UserController2.NEXT_CURSOR_HEADER);
+
+        // Then
+        mockMvc.perform(get("/api/v2/users").param("size", "2").param("cursor", cursor)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().doesNotExist(UserController2.NEXT_CURSOR_HEADER))
+                .andDo(print());
+
+        mockMvc.perform(get("/api/v2/users").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("사용자 목록 view 페이지 조회 테스트: controller")
+    public void getUsersView() throws Exception {
+        // Given
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v3/getUsers").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("views/listUser"))
+                .andExpect(model().attribute("users", hasSize(2)))
+                .andExpect(model().attributeExists("nextCursor"))
+                .andReturn();
+        String html = result.getResponse().getContentAsString();
+        log.info("html = {}", html);
+
+        // Then
+        // 데이터는 서버에서 한 번만 조회해 렌더링 (api 재조회 스크립트 없음), 다음 링크에 size 유지
+        assertThat(html).doesNotContain("/api/v2/users").contains("size=2");
+        // 두 번째 페이지는 시드 데이터 수 기준 (다른 테스트가 넣은 사용자가 있어도 맞도록)
+        int total = jdbcTemplate.queryForObject("select count(*) from users", Integer.class);
+        String cursor = (String) result.getModelAndView().getModel().get("nextCursor");
+        mockMvc.perform(get("/api/v3/getUsers").param("size", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("users", hasSize(Math.min(2, total - 2))))
+                .andExpect(model().attribute("nextCursor", total > 4 ? notNullValue() : nullValue()));
+
+        mockMvc.perform(get("/api/v3/getUsers").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("사용자 전체 내보내기 테스트: controller")
+    public void exportUsers() throws Exception {
+        // Given
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v2/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        log.info("body = {}", body);
+        assertThat(body.lines()).hasSize(3).allMatch(line -> line.startsWith("{\"userId\""));
+    }
+
+    @Test
+    @DisplayName("여러 사용자 한 번에 조회 테스트 (요청 순서 유지, 없는 아이디 표시): controller")
+    public void getUsersByIds() throws Exception {
+        // Given
+        // When
+        mockMvc.perform(get("/api/v2/users").param("ids", "czeromo,nobody,azeromo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[*].userId").value(contains("czeromo", "azeromo")))
+                .andExpect(jsonPath("$.missing[0]").value("nobody"))
+                .andDo(print());
+        mockMvc.perform(post("/api/v2/users/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"bzeromo\", \"azeromo\", \"bzeromo\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users", hasSize(2)))
+                .andExpect(jsonPath("$.users[0].userId").value("bzeromo"))
+                .andExpect(jsonPath("$.missing", hasSize(0)));
+        // Then
+    }
+
     @Test
     @DisplayName("사용자 조회 테스트: controller")
     public void getUserById() throws Exception {
@@ -53,4 +165,109 @@ public class UserControllerTest {
                 .andDo(print());
         // Then
     }
+
+    @Test
+    @DisplayName("사용자 목록 조회 테스트 (page, size 를 줄 때만 페이지): controller v5")
+    public void getAllUsersV5() throws Exception {
+        // Given
+        int total = jdbcTemplate.queryForObject("select count(*) from users", Integer.class);
+
+        // When & Then
+        mockMvc.perform(get("/api/v5/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(total)))
+                .andExpect(header().doesNotExist(UserController5.NEXT_PAGE_HEADER));
+
+        mockMvc.perform(get("/api/v5/users").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().string(UserController5.NEXT_PAGE_HEADER, "1"));
+        mockMvc.perform(get("/api/v5/users").param("page", "1").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(Math.min(2, total - 2))));
+    }
+
+    @Test
+    @DisplayName("사용자 수정/삭제 테스트 (If-Match 낙관적 잠금): controller v5")
+    public void patchAndDeleteUserV5() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/v5/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"v5patch\",\"password\":\"password\",\"name\":\"v5\",\"email\":\"v5patch@bzero.com\"}"))
+                .andExpect(status().isCreated());
+        String etag = mockMvc.perform(get("/api/v5/users/v5patch"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(patch("/api/v5/users/v5patch").header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"patched\"}"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(patch("/api/v5/users/v5patch").header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"stale\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/api/v5/users/v5patch"))
+                .andExpect(jsonPath("$.name").value("patched"));
+        mockMvc.perform(delete("/api/v5/users/v5patch"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v5/users/v5patch"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("reactive 사용자 API 테스트 (v5 와 같은 계약, 목록 NDJSON 스트리밍): controller v6")
+    public void userApiV6() throws Exception {
+        // Given
+        MvcResult created = mockMvc.perform(post("/api/v6/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"v6user\",\"password\":\"password\",\"name\":\"v6\",\"email\":\"v6user@bzero.com\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(created))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        MvcResult page = mockMvc.perform(get("/api/v6/users").param("size", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(page))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].userId").value("v6user"))
+                .andExpect(header().string(UserController5.NEXT_PAGE_HEADER, "1"));
+
+        MvcResult stream = mockMvc.perform(get("/api/v6/users").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(stream))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines()).hasSize(4).allMatch(line -> line.startsWith("{\"userId\""));
+
+        MvcResult found = mockMvc.perform(get("/api/v6/users/v6user")).andReturn();
+        String etag = mockMvc.perform(asyncDispatch(found))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("v6user@bzero.com"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isEqualTo("\"0\"");
+
+        MvcResult duplicate = mockMvc.perform(post("/api/v6/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"v6user\",\"password\":\"password\",\"name\":\"v6\",\"email\":\"v6dup@bzero.com\"}"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(duplicate))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(asyncDispatch(mockMvc.perform(patch("/api/v6/users/v6user").header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"patched\"}")).andReturn()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(asyncDispatch(mockMvc.perform(delete("/api/v6/users/v6user").header("If-Match", etag)).andReturn()))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(asyncDispatch(mockMvc.perform(delete("/api/v6/users/v6user")).andReturn()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v6/users/v6user")).andReturn()))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -2,14 +2,18 @@ package com.example.helloworld.user;
 
 import com.example.helloworld.user.domain.User;
 import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserCursor;
 import com.example.helloworld.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
 
+import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,6 +26,7 @@ public class UserMapperTest {
 
     // 생성자를 이용한 의존성 주입
     private final UserRepository userRepository;
+    private final DataSource dataSource;
 
     @Test
     @DisplayName("사용자 전체 조회 테스트")
@@ -34,6 +39,45 @@ public class UserMapperTest {
         assertThat(users.size()).isGreaterThan(0);
     }
 
+    @Test
+    @DisplayName("사용자 keyset 페이지 조회 테스트")
+    void findUserPageTest() {
+        // Given
+        List<FindAllUserDto> first = userRepository.findUserPage(null, 2);
+        // When
+        List<FindAllUserDto> second = userRepository.findUserPage(UserCursor.of(first.get(1)), 2);
+        // Then
+        log.info("first = {}, second = {}", first, second);
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0).getUserId())
+                .isNotIn(first.get(0).getUserId(), first.get(1).getUserId());
+    }
+
+    @Test
+    @DisplayName("createdAt 이 null 인 행도 keyset 페이지로 빠짐없이 조회 테스트")
+    void findUserPageNullCreatedAtTest() {
+        // Given
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("insert into users (userId, password, name, email, createdAt) values ('null1', 'pw', 'n', 'null1@bzero.com', null)");
+        jdbcTemplate.update("insert into users (userId, password, name, email, createdAt) values ('null2', 'pw', 'n', 'null2@bzero.com', null)");
+        List<String> expected = userRepository.findAllUser().stream().map(FindAllUserDto::getUserId).toList();
+
+        // When
+        List<String> userIds = new ArrayList<>();
+        List<FindAllUserDto> page = userRepository.findUserPage(null, 2);
+        while (!page.isEmpty()) {
+            page.forEach(user -> userIds.add(user.getUserId()));
+            UserCursor cursor = UserCursor.decode(UserCursor.of(page.get(page.size() - 1)).encode());
+            page = userRepository.findUserPage(cursor, 2);
+        }
+
+        // Then
+        log.info("userIds = {}", userIds);
+        assertThat(userIds).containsExactlyInAnyOrderElementsOf(expected).contains("null1", "null2");
+        assertThat(userIds.subList(userIds.size() - 2, userIds.size())).containsExactly("null2", "null1");
+    }
+
     @Test
     @DisplayName("특정 사용자 조회 테스트")
     void findByUserIdTest() {
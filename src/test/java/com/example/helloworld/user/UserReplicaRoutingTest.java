@@ -0,0 +1,119 @@
+package com.example.helloworld.user;
+
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.service.UserService;
+import com.example.helloworld.user.service.UserService5;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest(properties = {
+        "db.replica.enabled=true",
+        "db.replica.urls=jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1",
+        "db.replica.read-your-writes=1m",
+        "db.replica.health-check-interval=1h"
+})
+@RequiredArgsConstructor // final field 변수로 생성자 생성
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+public class UserReplicaRoutingTest { // primary(project2025) + replica 2개를 각각 다른 H2 메모리 DB 로 띄움
+
+    private static final List<String> REPLICAS = List.of("replica1", "replica2");
+
+    private final UserService userService;
+    private final UserService5 userService5;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void setUpReplicas() throws SQLException {
+        // 복제 대신 context 가 뜨기 전에 replica 에 같은 schema/data 를 넣어둠
+        for (String replica : REPLICAS) {
+            execute(replica, "runscript from 'classpath:schema.sql'");
+            execute(replica, "runscript from 'classpath:data.sql'");
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // 어느 DB 에서 읽었는지 알 수 있게 replica 의 email 을 바꿔둠
+        for (String replica : REPLICAS) {
+            execute(replica, "update users set email = userId || '@" + replica + "'");
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where userId like 'rpl%'");
+    }
+
+    @Test
+    @DisplayName("조회는 replica, 등록은 primary, 방금 등록한 유저는 primary 에서 조회")
+    public void routeTest() throws SQLException {
+        // Given
+        // When
+        List<FindAllUserDto> mybatisUsers = userService.readAllUser();
+        List<FindAllUserDto> jpaUsers = userService5.readAllUser();
+        String email = userService.readByUserId("bzeromo").getEmail();
+
+        // Then
+        log.info("mybatis = {}, jpa = {}, email = {}", mybatisUsers, jpaUsers, email);
+        assertThat(mybatisUsers).hasSize(3).allMatch(user -> user.getEmail().contains("@replica"));
+        assertThat(jpaUsers).hasSize(3).allMatch(user -> user.getEmail().contains("@replica"));
+        assertThat(email).contains("@replica");
+
+        // 등록은 primary 에만 (replica 에는 복제되지 않음)
+        userService.newUser(new UserCreateDto("rpluser1", "password", "replica", "rpluser1@bzero.com"));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users where userId = 'rpluser1'", Integer.class))
+                .isEqualTo(1);
+        assertThat(count("replica1", "select count(*) from users where userId = 'rpluser1'")).isZero();
+        assertThat(count("replica2", "select count(*) from users where userId = 'rpluser1'")).isZero();
+
+        // read-your-writes: 방금 쓴 유저와 목록은 primary 에서 조회
+        assertThat(userService.readByUserId("rpluser1")).isNotNull();
+        assertThat(userService5.readByUserId("rpluser1")).isPresent();
+        assertThat(userService.readAllUser()).extracting(FindAllUserDto::getUserId).contains("rpluser1");
+
+        // 풀 별 지표 (hikaricp.connections.*{pool=primary|replica-1|replica-2}), 라우팅 횟수
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica-1").gauge()).isNotNull();
+        assertThat(meterRegistry.get("db.read.routes").tag("target", "replica-1").functionCounter().count()
+                + meterRegistry.get("db.read.routes").tag("target", "replica-2").functionCounter().count())
+                .isGreaterThanOrEqualTo(3);
+    }
+
+    // Helper Method
+    private static void execute(String replica, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + replica + ";DB_CLOSE_DELAY=-1");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private int count(String replica, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + replica);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
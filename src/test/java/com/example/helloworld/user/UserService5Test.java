@@ -0,0 +1,271 @@
+package com.example.helloworld.user;
+
+import com.example.helloworld.common.DbBulkhead;
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserAvailabilityDto;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import com.example.helloworld.user.dto.UserWriteResult;
+import com.example.helloworld.user.repository.UserRepository;
+import com.example.helloworld.user.service.UserExistenceFilter;
+import com.example.helloworld.user.service.UserService;
+import com.example.helloworld.user.service.UserService5;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor // final field 변수로 생성자 생성
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+public class UserService5Test {
+
+    private final UserService5 userService5;
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserExistenceFilter userExistenceFilter;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DbBulkhead dbBulkhead;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where userId like 'jpa%'");
+    }
+
+    @Test
+    @DisplayName("유저 등록은 SELECT 없이 INSERT 한 번: jpa")
+    public void newUserTest() {
+        //Given
+        User3 user = new User3("jpauser1", "password", "jpa", "jpauser1@bzero.com", null);
+        //When
+        userService5.newUser(user);
+        //Then
+        log.info("statements = {}, loads = {}", statistics.getPrepareStatementCount(), statistics.getEntityLoadCount());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대량 등록은 batch 단위로 묶어서 INSERT: jpa")
+    public void newUsersTest() {
+        //Given
+        List<User3> users = IntStream.range(0, 250)
+                .mapToObj(i -> new User3("jpabulk" + i, "password", "jpa", "jpabulk" + i + "@bzero.com", null))
+                .toList();
+        //When
+        int created = userService5.newUsers(users);
+        //Then
+        log.info("statements = {}", statistics.getPrepareStatementCount());
+        assertThat(created).isEqualTo(250);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(250);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // batch_size=100 -> flush 3번, flush 당 insert 문 한 번 준비
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users where userId like 'jpabulk%'", Integer.class))
+                .isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 엔티티 없이 projection 으로, mybatis 결과와 같은 형태: jpa")
+    public void readAllUserTest() {
+        //Given
+        //When
+        List<FindAllUserDto> users = userService5.readAllUser();
+        //Then
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(users).extracting(FindAllUserDto::getUserId, FindAllUserDto::getEmail, FindAllUserDto::getCreatedAt)
+                .containsExactlyInAnyOrderElementsOf(userService.readAllUser().stream()
+                        .map(user -> tuple(user.getUserId(), user.getEmail(), user.getCreatedAt()))
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("단건 조회 캐시는 불변 값을 두고 호출마다 새 엔티티를 돌려줌: jpa")
+    public void readByUserIdCacheTest() {
+        //Given
+        userService5.newUser(new User3("jpacache", "password", "jpa", "jpacache@bzero.com", null));
+        User3 first = userService5.readByUserId("jpacache").orElseThrow();
+        statistics.clear();
+        //When
+        first.setName("changed");
+        User3 second = userService5.readByUserId("jpacache").orElseThrow();
+        //Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("jpa");
+        assertThat(second.getVersion()).isEqualTo(first.getVersion());
+        assertThat(second.isNew()).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 다음 페이지 유무만 판단 (count 쿼리 없음): jpa")
+    public void readUserPageTest() {
+        //Given
+        int total = userService5.readAllUser().size();
+        statistics.clear();
+        //When
+        Slice<FindAllUserDto> first = userService5.readUserPage(0, 2);
+        Slice<FindAllUserDto> last = userService5.readUserPage((total - 1) / 2, 2);
+        //Then
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.hasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("아이디/이메일 사용 가능 여부는 DB 로 확인, 이 인스턴스를 거치지 않고 들어온 값도 사용 중: jpa")
+    public void checkAvailabilityTest() {
+        //Given
+        userService5.newUser(new User3("jpaavail", "password", "jpa", "jpaavail@bzero.com", null));
+        statistics.clear();
+        //When
+        UserAvailabilityDto fresh = userService5.checkAvailability("jpafresh", "jpafresh@bzero.com");
+        long freshStatements = statistics.getPrepareStatementCount();
+        UserAvailabilityDto taken = userService5.checkAvailability("jpaavail", "jpaavail@bzero.com");
+        UserAvailabilityDto existing = userService5.checkAvailability("bzeromo", null);
+        //Then
+        // filter 에 없는 값은 DB 조회 없이 사용 가능 (authoritative 기본값)
+        assertThat(fresh.getUserIdAvailable()).isTrue();
+        assertThat(fresh.getEmailAvailable()).isTrue();
+        assertThat(freshStatements).isZero();
+        assertThat(taken.getUserIdAvailable()).isFalse();
+        assertThat(taken.getEmailAvailable()).isFalse();
+        assertThat(existing.getUserIdAvailable()).isFalse();
+        assertThat(existing.getEmailAvailable()).isNull();
+        assertThat(userExistenceFilter.falsePositiveRate(UserExistenceFilter.Field.USER_ID)).isLessThan(0.05);
+    }
+
+    @Test
+    @DisplayName("authoritative 가 아니면 filter 에 없는 값도 DB 로 확인 (다른 인스턴스/직접 SQL 로 들어온 유저)")
+    public void nonAuthoritativeFilterTest() {
+        //Given
+        UserExistenceFilter filter = new UserExistenceFilter(userRepository, transactionManager, dbBulkhead, 1000, 0.01, Duration.ZERO, false);
+        filter.rebuild();
+        jdbcTemplate.update("insert into users (userId, password, name, email, createdAt, version)"
+                + " values ('jpaother', 'password', 'jpa', 'jpaother@bzero.com', now(), 0)");
+        //When, Then
+        assertThat(filter.userIdExists("jpaother", userId -> count("userId", userId) > 0)).isTrue();
+        assertThat(filter.emailExists("jpaother@bzero.com", email -> count("email", email) > 0)).isTrue();
+        assertThat(filter.userIdExists("jpafresh", userId -> count("userId", userId) > 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("authoritative 이면 filter 에 없는 값은 DB 조회 없이 없음 (단일 인스턴스용)")
+    public void authoritativeFilterTest() {
+        //Given
+        UserExistenceFilter filter = new UserExistenceFilter(userRepository, transactionManager, dbBulkhead, 1000, 0.01, Duration.ZERO, true);
+        filter.rebuild();
+        //When, Then
+        assertThat(filter.userIdExists("jpafresh", userId -> fail("DB 조회 : " + userId))).isFalse();
+        assertThat(filter.emailExists("jpafresh@bzero.com", email -> fail("DB 조회 : " + email))).isFalse();
+        assertThat(filter.userIdExists("bzeromo", userId -> true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("PATCH 는 바뀐 컬럼만 UPDATE 한 번, 오래된 버전이면 거절: jpa")
+    public void updateUserTest() {
+        //Given
+        userService5.newUser(new User3("jpapatch", "password", "jpa", "jpapatch@bzero.com", null));
+        statistics.clear();
+        //When
+        UserWriteResult patched = userService5.updateUser("jpapatch", 0L, UserUpdateDto.builder().name("patched").build());
+        long patchStatements = statistics.getPrepareStatementCount();
+        long patchLoads = statistics.getEntityLoadCount();
+        UserWriteResult stale = userService5.updateUser("jpapatch", 0L, UserUpdateDto.builder().name("stale").build());
+        UserWriteResult missing = userService5.updateUser("jpanobody", null, UserUpdateDto.builder().name("x").build());
+        //Then
+        assertThat(patched).isEqualTo(UserWriteResult.DONE);
+        assertThat(patchStatements).isEqualTo(1);
+        assertThat(patchLoads).isZero();
+        assertThat(stale).isEqualTo(UserWriteResult.VERSION_MISMATCH);
+        assertThat(missing).isEqualTo(UserWriteResult.NOT_FOUND);
+        User3 user = userService5.readByUserId("jpapatch").orElseThrow();
+        assertThat(user.getName()).isEqualTo("patched");
+        assertThat(user.getPassword()).isEqualTo("password");
+        assertThat(user.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제하면 같은 테이블을 보는 v2(mybatis) 단건 캐시도 무효화: jpa")
+    public void evictBothCachesTest() {
+        //Given
+        userService5.newUser(new User3("jpaevict", "password", "jpa", "jpaevict@bzero.com", null));
+        assertThat(userService.readByUserId("jpaevict").getName()).isEqualTo("jpa");
+        //When
+        userService5.updateUser("jpaevict", null, UserUpdateDto.builder().name("changed").build());
+        String changed = userService.readByUserId("jpaevict").getName();
+        userService5.deleteUser("jpaevict", null);
+        //Then
+        assertThat(changed).isEqualTo("changed");
+        assertThat(userService.readByUserId("jpaevict")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 유저의 이메일로 수정하면 거절 (409): jpa")
+    public void updateDuplicateEmailTest() {
+        //Given
+        userService5.newUser(new User3("jpadupe", "password", "jpa", "jpadupe@bzero.com", null));
+        //When, Then
+        assertThatThrownBy(() -> userService5.updateUser("jpadupe", null, UserUpdateDto.builder().email("bzero@bzero.com").build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(userService5.readByUserId("jpadupe").orElseThrow().getEmail()).isEqualTo("jpadupe@bzero.com");
+    }
+
+    @Test
+    @DisplayName("DELETE 는 한 번, 없는 유저는 NOT_FOUND: jpa")
+    public void deleteUserTest() {
+        //Given
+        userService5.newUser(new User3("jpadelete", "password", "jpa", "jpadelete@bzero.com", null));
+        statistics.clear();
+        //When
+        UserWriteResult stale = userService5.deleteUser("jpadelete", 7L);
+        statistics.clear();
+        UserWriteResult deleted = userService5.deleteUser("jpadelete", null);
+        long deleteStatements = statistics.getPrepareStatementCount();
+        UserWriteResult again = userService5.deleteUser("jpadelete", null);
+        //Then
+        assertThat(stale).isEqualTo(UserWriteResult.VERSION_MISMATCH);
+        assertThat(deleted).isEqualTo(UserWriteResult.DONE);
+        assertThat(deleteStatements).isEqualTo(1);
+        assertThat(again).isEqualTo(UserWriteResult.NOT_FOUND);
+    }
+
+    // Helper Method
+    private int count(String column, String value) {
+        return jdbcTemplate.queryForObject("select count(*) from users where " + column + " = ?", Integer.class, value);
+    }
+}
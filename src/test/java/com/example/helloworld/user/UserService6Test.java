@@ -0,0 +1,131 @@
+package com.example.helloworld.user;
+
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.UserUpdateDto;
+import com.example.helloworld.user.dto.UserWriteResult;
+import com.example.helloworld.user.service.UserService5;
+import com.example.helloworld.user.service.UserService6;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@RequiredArgsConstructor // final field 변수로 생성자 생성
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+public class UserService6Test {
+
+    private final UserService6 userService6;
+    private final UserService5 userService5;
+    private final JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where userId like 'rx%'");
+    }
+
+    @Test
+    @DisplayName("R2DBC 로 등록한 유저를 JDBC 경로(v5)에서도 조회: reactive")
+    public void newUserTest() {
+        //Given
+        User3 user = new User3("rxuser1", "password", "rx", "rxuser1@bzero.com", null);
+        //When
+        StepVerifier.create(userService6.newUser(user))
+                .assertNext(created -> assertThat(created.getVersion()).isZero())
+                .verifyComplete();
+        //Then
+        StepVerifier.create(userService6.readByUserId("rxuser1"))
+                .assertNext(found -> {
+                    assertThat(found.getEmail()).isEqualTo("rxuser1@bzero.com");
+                    assertThat(found.getCreatedAt()).isEqualTo(user.getCreatedAt());
+                })
+                .verifyComplete();
+        assertThat(userService5.readByUserId("rxuser1")).isNotNull();
+        StepVerifier.create(userService6.readByUserId("nobody")).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("중복 아이디 등록은 DataIntegrityViolationException, 일괄 등록은 전체 롤백: reactive")
+    public void duplicateTest() {
+        //Given
+        User3 duplicate = new User3("bzeromo", "password", "rx", "rxdup@bzero.com", null);
+        List<User3> users = List.of(
+                new User3("rxbulk1", "password", "rx", "rxbulk1@bzero.com", null),
+                new User3("azeromo", "password", "rx", "rxbulk2@bzero.com", null));
+        //When & Then
+        StepVerifier.create(userService6.newUser(duplicate))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+        StepVerifier.create(userService6.newUsers(users))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users where userId like 'rx%'", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("버전을 확인하는 수정/삭제 (불일치 412, 없는 유저 404 구분): reactive")
+    public void updateAndDeleteTest() {
+        //Given
+        StepVerifier.create(userService6.newUser(new User3("rxupdate", "password", "rx", "rxupdate@bzero.com", null)))
+                .expectNextCount(1)
+                .verifyComplete();
+        UserUpdateDto changes = UserUpdateDto.builder().name("patched").build();
+        //When & Then
+        StepVerifier.create(userService6.updateUser("rxupdate", 0L, changes))
+                .expectNext(UserWriteResult.DONE)
+                .verifyComplete();
+        StepVerifier.create(userService6.updateUser("rxupdate", 0L, changes))
+                .expectNext(UserWriteResult.VERSION_MISMATCH)
+                .verifyComplete();
+        StepVerifier.create(userService6.readByUserId("rxupdate"))
+                .assertNext(found -> {
+                    assertThat(found.getName()).isEqualTo("patched");
+                    assertThat(found.getVersion()).isEqualTo(1L);
+                })
+                .verifyComplete();
+        StepVerifier.create(userService6.deleteUser("rxupdate", 1L))
+                .expectNext(UserWriteResult.DONE)
+                .verifyComplete();
+        StepVerifier.create(userService6.deleteUser("rxupdate", 1L))
+                .expectNext(UserWriteResult.NOT_FOUND)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("목록 페이지(다음 페이지 여부)와 요청한 만큼만 내보내는 전체 스트리밍: reactive")
+    public void readUsersTest() {
+        //Given
+        //When & Then
+        StepVerifier.create(userService6.readUserPage(0, 2))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).hasSize(2);
+                    assertThat(page.hasNext()).isTrue();
+                })
+                .verifyComplete();
+        StepVerifier.create(userService6.readUserPage(1, 2))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).hasSize(1);
+                    assertThat(page.hasNext()).isFalse();
+                })
+                .verifyComplete();
+        // 한 건씩 요청 (backpressure)
+        StepVerifier.create(userService6.streamAllUser(), 1)
+                .expectNextCount(1)
+                .thenRequest(1)
+                .expectNextCount(1)
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+}
@@ -2,15 +2,28 @@ package com.example.helloworld.user;
 
 import com.example.helloworld.user.domain.User;
 import com.example.helloworld.user.dto.FindAllUserDto;
+import com.example.helloworld.user.dto.UserBulkResultDto;
+import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.dto.UserLookupDto;
+import com.example.helloworld.user.repository.UserBatchRepository;
+import com.example.helloworld.user.repository.UserRepository;
 import com.example.helloworld.user.service.UserService;
+import com.example.helloworld.user.service.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -21,6 +34,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class UserServiceTest {
 
     private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from users where userId like 'bulk%'");
+        // 테스트에서 넣은 가짜 캐시 값이 다른 테스트 클래스(같은 컨텍스트)로 새지 않도록
+        cacheManager.getCache(UserServiceImpl.USER_CACHE).clear();
+    }
 
     @Test
     @DisplayName("사용자 전체 조회 테스트: service")
@@ -44,4 +69,98 @@ public class UserServiceTest {
         log.info("users = {}", user);
         assertThat(user).isNotNull();
     }
+
+    @Test
+    @DisplayName("사용자 조회 캐시 테스트: service")
+    public void readByUserIdCacheTest() {
+        //Given
+        Cache cache = cacheManager.getCache(UserServiceImpl.USER_CACHE);
+        cache.evict("azeromo");
+        //When
+        User first = userService.readByUserId("azeromo");
+        User second = userService.readByUserId("azeromo");
+        //Then
+        assertThat(cache.get("azeromo")).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(userService.readByUserId("nobody")).isNull();
+        assertThat(cache.get("nobody")).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 사용자 한 번에 조회 테스트 (캐시에 없는 아이디만 조회 후 캐시): service")
+    public void readByUserIdsTest() {
+        //Given
+        Cache cache = cacheManager.getCache(UserServiceImpl.USER_CACHE);
+        User cached = new User("azeromo", "azero", "캐시", "azero@bzero.com", null);
+        cache.put("azeromo", cached);
+        cache.evict("bzeromo");
+        cache.evict("czeromo");
+        //When
+        UserLookupDto result = userService.readByUserIds(List.of("czeromo", "nobody", "azeromo", "bzeromo", "czeromo"));
+        //Then
+        log.info("result = {}", result);
+        assertThat(result.getUsers()).extracting(User::getUserId).containsExactly("czeromo", "azeromo", "bzeromo");
+        assertThat(result.getUsers().get(1)).isSameAs(cached);
+        assertThat(result.getMissing()).containsExactly("nobody");
+        assertThat(cache.get("bzeromo")).isNotNull();
+        assertThat(userService.readByUserId("czeromo")).isSameAs(result.getUsers().get(0));
+    }
+
+    @Test
+    @DisplayName("사용자 등록 시 캐시 무효화 테스트: service")
+    public void newUserEvictTest() {
+        //Given
+        Cache cache = cacheManager.getCache(UserServiceImpl.USER_CACHE);
+        cache.put("bulk1", new User());
+        //When
+        userService.newUser(new UserCreateDto("bulk1", "pw1", "벌크1", "bulk1@bzero.com"));
+        //Then
+        assertThat(cache.get("bulk1")).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자 대량 등록 테스트: service")
+    public void newUsersTest() {
+        //Given
+        List<UserCreateDto> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(new UserCreateDto("bulk" + i, "pw" + i, "벌크" + i, "bulk" + i + "@bzero.com"));
+        }
+        users.add(new UserCreateDto("bzeromo", "bzero", "박영규", "bzero@bzero.com")); // 중복
+        users.add(new UserCreateDto("bulk9", "pw9", "벌크9", null)); // email 누락
+
+        //When
+        UserBulkResultDto result = userService.newUsers(users);
+
+        //Then
+        log.info("result = {}", result);
+        assertThat(result.getTotal()).isEqualTo(7);
+        assertThat(result.getSucceeded()).isEqualTo(5);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting(UserBulkResultDto.Failure::getIndex).containsExactly(5, 6);
+        assertThat(userService.readByUserId("bulk4")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("batch 등록은 이미 열린 트랜잭션 안에서도 그 트랜잭션으로 실행: repository")
+    public void insertUsersInTransactionTest() {
+        //Given
+        List<UserCreateDto> users = List.of(
+                new UserCreateDto("bulktx1", "pw1", "벌크1", "bulktx1@bzero.com"),
+                new UserCreateDto("bulktx2", "pw2", "벌크2", "bulktx2@bzero.com"));
+        //When
+        int[] counts = new TransactionTemplate(transactionManager).execute(status -> {
+            // SIMPLE 세션이 먼저 트랜잭션에 묶인 상태
+            userRepository.findByUserId("azeromo");
+            int[] inserted = userBatchRepository.insertUsers(users);
+            assertThat(jdbcTemplate.queryForObject("select count(*) from users where userId like 'bulktx%'", Integer.class))
+                    .isEqualTo(2);
+            status.setRollbackOnly();
+            return inserted;
+        });
+        //Then
+        assertThat(counts).hasSize(2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users where userId like 'bulktx%'", Integer.class))
+                .isZero();
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.helloworld.user;
+
+import com.example.helloworld.user.domain.User;
+import com.example.helloworld.user.repository.UserStore;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+public class UserStoreTest { // 단위 테스트: 메모리 저장소
+
+    @Test
+    @DisplayName("userId, email 인덱스 조회 테스트")
+    void findByIndexTest() {
+        // Given
+        UserStore store = new UserStore();
+        store.save(new User("azeromo", "azero", "이영규", "azero@bzero.com", "2025-05-27"));
+        store.save(new User("bzeromo", "bzero", "박영규", "bzero@bzero.com", "2025-05-27"));
+
+        // When
+        store.update("bzeromo", user -> {
+            user.setEmail("new@bzero.com");
+            return user;
+        });
+
+        // Then
+        assertThat(store.findById("azeromo")).isPresent();
+        assertThat(store.findByEmail("bzero@bzero.com")).isEmpty();
+        assertThat(store.findByEmail("new@bzero.com").map(User::getUserId)).contains("bzeromo");
+        assertThat(store.findAll()).extracting(User::getUserId).containsExactly("azeromo", "bzeromo");
+    }
+
+    @Test
+    @DisplayName("userId 변경 수정 및 삭제 테스트")
+    void replaceAndDeleteTest() {
+        // Given
+        UserStore store = new UserStore();
+        store.save(new User("azeromo", "azero", "이영규", "azero@bzero.com", "2025-05-27"));
+
+        // When
+        store.replace("azeromo", new User("dzeromo", "dzero", "도영규", "dzero@bzero.com", "2025-05-28"));
+
+        // Then
+        assertThat(store.findById("azeromo")).isEmpty();
+        assertThat(store.findByEmail("azero@bzero.com")).isEmpty();
+        assertThat(store.findById("dzeromo")).isPresent();
+        assertThat(store.replace("azeromo", new User())).isEmpty();
+        assertThat(store.delete("dzeromo")).isTrue();
+        assertThat(store.delete("dzeromo")).isFalse();
+        assertThat(store.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동시 등록 테스트")
+    void concurrentSaveTest() throws Exception {
+        // Given
+        UserStore store = new UserStore();
+        int threads = 8;
+        int perThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            futures.add(executor.submit(() -> {
+                for (int i = base; i < base + perThread; i++) {
+                    store.save(new User("user" + i, "pw", "name", "user" + i + "@bzero.com", "2025-05-27"));
+                    if (i % 100 == 0) {
+                        store.findAll();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        log.info("size = {}", store.size());
+        assertThat(store.size()).isEqualTo(threads * perThread);
+        assertThat(store.findAll()).hasSize(threads * perThread);
+        assertThat(store.findByEmail("user4321@bzero.com").map(User::getUserId)).contains("user4321");
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.helloworld.user;
+
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.repository.UserWriteAheadLog;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Slf4j
+public class UserWriteAheadLogTest { // 단위 테스트: 사용자 등록 WAL (파일 기록/재적용/정리)
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("기록한 등록은 다시 열면 lsn 순서대로 재적용")
+    void replayTest() throws IOException {
+        // Given
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1 << 20)) {
+            wal.replay();
+            assertThat(wal.append(List.of(user("waluser1"), user("waluser2")))).isEqualTo(1);
+            assertThat(wal.append(List.of(user("waluser3")))).isEqualTo(3);
+        }
+
+        // When
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1 << 20)) {
+            List<UserWriteAheadLog.Entry> entries = wal.replay();
+
+            // Then
+            assertThat(entries).extracting(UserWriteAheadLog.Entry::lsn, entry -> entry.user().getUserId())
+                    .containsExactly(tuple(1L, "waluser1"), tuple(2L, "waluser2"), tuple(3L, "waluser3"));
+            assertThat(entries.get(0).user().getEmail()).isEqualTo("waluser1@bzero.com");
+            // 이어서 쓰면 다음 lsn 부터
+            assertThat(wal.append(List.of(user("waluser4")))).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("64KB 를 넘는 필드는 레코드 인코딩에서만 실패, 같이 쓰는 다른 레코드는 그대로 기록")
+    void encodeTooLongTest() throws IOException {
+        // Given
+        User3 tooLong = new User3("waluser9", "password", "wal", "x".repeat(70_000), null);
+
+        // When, Then
+        assertThatThrownBy(() -> UserWriteAheadLog.encode(tooLong)).isInstanceOf(UTFDataFormatException.class);
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1 << 20)) {
+            wal.replay();
+            assertThat(wal.appendEncoded(List.of(UserWriteAheadLog.encode(user("waluser1"))))).isEqualTo(1);
+        }
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1 << 20)) {
+            assertThat(wal.replay()).extracting(entry -> entry.user().getUserId()).containsExactly("waluser1");
+        }
+    }
+
+    @Test
+    @DisplayName("fsync 전에 끊긴 마지막 레코드는 잘라내고 그 앞까지만 재적용")
+    void tornTailTest() throws IOException {
+        // Given
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1 << 20)) {
+            wal.replay();
+            wal.append(List.of(user("waluser1"), user("waluser2")));
+        }
+        Path segment = segments().get(0);
+        long size = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        // When
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1 << 20)) {
+            List<UserWriteAheadLog.Entry> entries = wal.replay();
+
+            // Then
+            assertThat(entries).extracting(entry -> entry.user().getUserId()).containsExactly("waluser1");
+            assertThat(Files.size(segment)).isLessThan(size - 3);
+            // 잘라낸 자리부터 다시 씀
+            assertThat(wal.append(List.of(user("waluser3")))).isEqualTo(2);
+        }
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1 << 20)) {
+            assertThat(wal.replay()).extracting(entry -> entry.user().getUserId())
+                    .containsExactly("waluser1", "waluser3");
+        }
+    }
+
+    @Test
+    @DisplayName("DB 에 반영된 파일만 삭제")
+    void releaseTest() throws IOException {
+        // Given
+        // 레코드 하나만 써도 다음 파일로 넘어가는 크기
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1)) {
+            wal.replay();
+            wal.append(List.of(user("waluser1")));
+            wal.append(List.of(user("waluser2")));
+            wal.append(List.of(user("waluser3")));
+            assertThat(wal.segmentCount()).isEqualTo(4);
+
+            // When
+            wal.release(2);
+
+            // Then
+            assertThat(wal.segmentCount()).isEqualTo(2);
+            assertThat(segments()).hasSize(2);
+
+            wal.release(3);
+            assertThat(wal.segmentCount()).isEqualTo(1);
+        }
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1)) {
+            assertThat(wal.replay()).isEmpty();
+            assertThat(wal.append(List.of(user("waluser4")))).isEqualTo(4);
+        }
+    }
+
+    // Helper Method
+    private User3 user(String userId) {
+        return new User3(userId, "password", "wal", userId + "@bzero.com", null);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".wal")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.helloworld.user;
+
+import com.example.helloworld.common.BulkheadFullException;
+import com.example.helloworld.common.DbBulkhead;
+import com.example.helloworld.common.ReadYourWrites;
+import com.example.helloworld.user.domain.User3;
+import com.example.helloworld.user.dto.UserCreateDto;
+import com.example.helloworld.user.repository.UserRepository5;
+import com.example.helloworld.user.repository.UserWriteAheadLog;
+import com.example.helloworld.user.service.UserExistenceFilter;
+import com.example.helloworld.user.service.UserService;
+import com.example.helloworld.user.service.UserService5;
+import com.example.helloworld.user.service.UserWriteBehind;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@SpringBootTest(properties = {
+        "user.write-behind.enabled=true",
+        // 테스트에서 flush() 로 직접 반영
+        "user.write-behind.flush-interval=1h"
+})
+@RequiredArgsConstructor // final field 변수로 생성자 생성
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+public class UserWriteBehindTest {
+
+    private final UserWriteBehind userWriteBehind;
+    private final UserService userService;
+    private final UserService5 userService5;
+    private final UserRepository5 userRepository5;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final DbBulkhead dbBulkhead;
+    private final ReadYourWrites readYourWrites;
+    private final UserExistenceFilter userExistenceFilter;
+    private final JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path dir;
+
+    @DynamicPropertySource
+    static void walDir(DynamicPropertyRegistry registry) throws IOException {
+        Path walDir = Files.createTempDirectory("user-wal");
+        registry.add("user.write-behind.dir", walDir::toString);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userWriteBehind.flush();
+        jdbcTemplate.update("delete from users where userId like 'wb%'");
+    }
+
+    @Test
+    @DisplayName("등록은 WAL 기록 후 반환, DB 반영 전에도 단건 조회 가능, flush 후 DB 에 반영")
+    public void submitTest() {
+        // Given
+        User3 user = new User3("wbuser1", "password", "wb", "wbuser1@bzero.com", null);
+
+        // When
+        userWriteBehind.submit(user);
+
+        // Then
+        assertThat(count("wbuser1")).isZero();
+        Optional<User3> pending = userService5.readByUserId("wbuser1");
+        assertThat(pending).isPresent();
+        assertThat(pending.get().getEmail()).isEqualTo("wbuser1@bzero.com");
+        assertThat(pending.get().getVersion()).isNull();
+
+        assertThat(userWriteBehind.flush()).isZero();
+        assertThat(count("wbuser1")).isEqualTo(1);
+        // pending 상태는 캐시되지 않으므로 반영 후에는 version 이 있는 DB 값
+        assertThat(userService5.readByUserId("wbuser1")).get().extracting(User3::getVersion).isNotNull();
+    }
+
+    @Test
+    @DisplayName("이미 있거나 등록 대기 중인 아이디/이메일은 거절")
+    public void duplicateTest() {
+        // Given
+        userWriteBehind.submit(new User3("wbuser2", "password", "wb", "wbuser2@bzero.com", null));
+
+        // When, Then
+        assertThatThrownBy(() -> userWriteBehind.submit(new User3("wbuser2", "password", "other", "other@bzero.com", null)))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> userWriteBehind.submit(new User3("bzeromo", "password", "other", "other@bzero.com", null)))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> userWriteBehind.submit(new User3("wbuser3", "password", "other", emailOf("bzeromo"), null)))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("등록 대기 중인 이메일은 거절, 다른 경로(v2/v5 동기 등록)에서도 등록 대기 중인 아이디/이메일은 거절")
+    public void reservationTest() {
+        // Given
+        userWriteBehind.submit(new User3("wbuser4", "password", "wb", "wbuser4@bzero.com", null));
+
+        // When, Then
+        assertThatThrownBy(() -> userWriteBehind.submit(new User3("wbuser5", "password", "wb", "wbuser4@bzero.com", null)))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> userService.newUser(new UserCreateDto("wbuser4", "password", "wb", "wbuser6@bzero.com")))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> userService5.newUser(new User3("wbuser6", "password", "wb", "wbuser4@bzero.com", null)))
+                .isInstanceOf(DuplicateKeyException.class);
+
+        // 다른 경로에서 쓰는 동안에는 write-behind 등록을 거절, 끝나면 받음
+        try (UserWriteBehind.Reservation reservation = userWriteBehind.reserve("wbuser7", "wbuser7@bzero.com")) {
+            assertThatThrownBy(() -> userWriteBehind.submit(new User3("wbuser7", "password", "wb", "wbuser7@bzero.com", null)))
+                    .isInstanceOf(DuplicateKeyException.class);
+        }
+        userWriteBehind.submit(new User3("wbuser7", "password", "wb", "wbuser7@bzero.com", null));
+
+        // DB 에 반영되면 예약 해제
+        assertThat(userWriteBehind.flush()).isZero();
+        assertThat(count("wbuser4")).isEqualTo(1);
+        assertThat(count("wbuser7")).isEqualTo(1);
+        assertThat(userService.newUser(new UserCreateDto("wbuser8", "password", "wb", "wbuser8@bzero.com"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 값이나 컬럼 길이를 넘는 등록은 WAL 에 기록하지 않고 거절 (400), 이후 등록은 정상 처리")
+    public void invalidTest() {
+        // Given
+        // When, Then
+        assertThatThrownBy(() -> userWriteBehind.submit(new User3("wbuser9", null, "wb", "wbuser9@bzero.com", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userWriteBehind.submit(new User3("wbuser9", "password", "wb", " ", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userWriteBehind.submit(new User3("wbuser9", "password", "이름이열글자를넘는사용자", "wbuser9@bzero.com", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userWriteBehind.submit(new User3("wbuser9", "password", "wb", "x".repeat(70_000) + "@bzero.com", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        userWriteBehind.submit(new User3("wbuser9", "password", "wb", "wbuser9@bzero.com", null));
+        assertThat(userWriteBehind.flush()).isZero();
+        assertThat(count("wbuser9")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시작하면 WAL 에 남은 등록을 반영 (이미 반영된 건은 건너뛰고 충돌한 건은 rejected.log)")
+    public void replayTest() throws Exception {
+        // Given
+        // 재시작 전: wbuser11 은 이미 DB 에 반영됨, wbuser12 는 그 사이 다른 경로로 다른 사용자가 등록함
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1 << 20)) {
+            wal.replay();
+            wal.append(List.of(
+                    new User3("wbuser10", "password", "wb", "wbuser10@bzero.com", null),
+                    new User3("wbuser11", "password", "wb", "wbuser11@bzero.com", null),
+                    new User3("wbuser12", "password", "wb", "wbuser12@bzero.com", null)));
+        }
+        jdbcTemplate.update("insert into users (userId, password, name, email, createdAt, version)"
+                + " values ('wbuser11', 'password', 'wb', 'wbuser11@bzero.com', now(), 0)");
+        jdbcTemplate.update("insert into users (userId, password, name, email, createdAt, version)"
+                + " values ('wbuser12', 'password', 'someone', 'someone@bzero.com', now(), 0)");
+
+        UserWriteBehind restarted = writeBehind(10);
+
+        // When
+        restarted.start();
+        int remaining = restarted.flush();
+        restarted.stop();
+
+        // Then
+        assertThat(remaining).isZero();
+        assertThat(count("wbuser10")).isEqualTo(1);
+        assertThat(emailOf("wbuser12")).isEqualTo("someone@bzero.com");
+        assertThat(Files.readString(dir.resolve("rejected.log"))).contains("wbuser12").doesNotContain("wbuser11");
+        // 모두 반영됐으므로 남은 WAL 에는 재적용할 등록이 없음
+        try (UserWriteAheadLog wal = new UserWriteAheadLog(dir, 1 << 20)) {
+            assertThat(wal.replay()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("DB 반영 대기가 한도를 넘으면 등록 거절 (503)")
+    public void backpressureTest() throws Exception {
+        // Given
+        UserWriteBehind limited = writeBehind(2);
+        limited.start();
+
+        // When
+        limited.submit(new User3("wbuser20", "password", "wb", "wbuser20@bzero.com", null));
+        limited.submit(new User3("wbuser21", "password", "wb", "wbuser21@bzero.com", null));
+
+        // Then
+        assertThatThrownBy(() -> limited.submit(new User3("wbuser22", "password", "wb", "wbuser22@bzero.com", null)))
+                .isInstanceOf(BulkheadFullException.class);
+
+        // DB 에 반영되면 다시 받음
+        limited.flush();
+        limited.submit(new User3("wbuser22", "password", "wb", "wbuser22@bzero.com", null));
+        limited.stop();
+        assertThat(count("wbuser22")).isEqualTo(1);
+    }
+
+    // Helper Method
+    // 같은 DB 를 쓰는 별도 인스턴스 (재시작 상황), flush 는 직접 호출
+    private UserWriteBehind writeBehind(int maxPending) {
+        return new UserWriteBehind(userRepository5, entityManager, transactionManager, dbBulkhead, readYourWrites, userExistenceFilter,
+                true, dir, DataSize.ofMegabytes(1), 100, Duration.ofHours(1), maxPending, Duration.ofSeconds(5));
+    }
+
+    private int count(String userId) {
+        return jdbcTemplate.queryForObject("select count(*) from users where userId = ?", Integer.class, userId);
+    }
+
+    private String emailOf(String userId) {
+        return jdbcTemplate.queryForObject("select email from users where userId = ?", String.class, userId);
+    }
+}